@@ -1,5 +1,6 @@
 package com.fierydragon.components;
 
+import com.fierydragon.core.framework.ResizeCoalescer;
 import com.fierydragon.core.interfaces.ISceneHolder;
 
 import javafx.scene.Group;
@@ -16,6 +17,7 @@ public abstract class BaseUI implements ISceneHolder {
 
     protected Scene UIScene;
     protected Group UIRoot;
+    protected ResizeCoalescer resizeCoalescer;
 
     /**
      * Constructor
@@ -27,13 +29,8 @@ public abstract class BaseUI implements ISceneHolder {
         this.UIScene = new Scene(this.UIRoot);
         this.UIScene.setFill(Color.LIGHTGRAY);
 
-        this.UIScene.widthProperty().addListener((observable, oldValue, newValue) -> {
-            this.draw();
-        });
-
-        this.UIScene.heightProperty().addListener((observable, oldValue, newValue) -> {
-            this.draw();
-        });
+        // Redraw at most once per pulse when resized
+        this.resizeCoalescer = new ResizeCoalescer(this.UIScene, this::draw);
     }
 
     /**
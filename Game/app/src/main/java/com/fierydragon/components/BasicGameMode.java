@@ -1,19 +1,24 @@
 package com.fierydragon.components;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.fierydragon.components.UI.GameWinUI;
 import com.fierydragon.components.UI.MainMenuUI;
 import com.fierydragon.components.UI.PauseMenuUI;
-import com.fierydragon.components.enums.CardType;
+import com.fierydragon.components.bot.BotRunner;
+import com.fierydragon.components.engine.AutoSaver;
+import com.fierydragon.components.engine.GameJournal;
+import com.fierydragon.components.engine.GameSetup;
+import com.fierydragon.components.engine.GameState;
+import com.fierydragon.components.interfaces.IBotPlayer;
+import com.fierydragon.components.level.CanvasBoardRenderer;
 import com.fierydragon.components.level.GameBoard;
+import com.fierydragon.core.framework.GameManager;
 import com.fierydragon.core.framework.GameModeBase;
+import com.fierydragon.core.framework.SaveHandler;
 import com.fierydragon.core.framework.StageController;
 
-import javafx.util.Pair;
 /**
  * The BasicGameMode class represents a basic game mode for the Fiery Dragon game, managing the game setup, gameplay, and win condition.
  * 
@@ -28,40 +33,10 @@ public class BasicGameMode extends GameModeBase {
     private int playerCount;
     private int volcanoCardNum;
 
-    private final ArrayList<CardType> tileTypes = new ArrayList<CardType>(Arrays.asList(
-        CardType.SALAMANDER,
-        CardType.BABYDRAGON,
-        CardType.BAT,
-        CardType.SPIDER
-    ));
-    private final ArrayList<CardType> caveTypes = new ArrayList<CardType>(Arrays.asList(
-        CardType.SALAMANDER,
-        CardType.BABYDRAGON,
-        CardType.BAT,
-        CardType.SPIDER
-    ));
-    private final ArrayList<Pair<CardType, Integer>> dragonCardValues = new ArrayList<Pair<CardType, Integer>>(Arrays.asList(
-        new Pair<CardType, Integer>(CardType.PIRATE_DRAGON, -1),
-        new Pair<CardType, Integer>(CardType.PIRATE_DRAGON, -1),
-        new Pair<CardType, Integer>(CardType.PIRATE_DRAGON, -2),
-        new Pair<CardType, Integer>(CardType.PIRATE_DRAGON, -2),
-        new Pair<CardType, Integer>(CardType.BAT, 1),
-        new Pair<CardType, Integer>(CardType.BAT, 2),
-        new Pair<CardType, Integer>(CardType.BAT, 3),
-        new Pair<CardType, Integer>(CardType.BABYDRAGON, 1),
-        new Pair<CardType, Integer>(CardType.BABYDRAGON, 2),
-        new Pair<CardType, Integer>(CardType.BABYDRAGON, 3),
-        new Pair<CardType, Integer>(CardType.SALAMANDER, 1),
-        new Pair<CardType, Integer>(CardType.SALAMANDER, 2),
-        new Pair<CardType, Integer>(CardType.SALAMANDER, 3),
-        new Pair<CardType, Integer>(CardType.SPIDER, 1),
-        new Pair<CardType, Integer>(CardType.SPIDER, 2),
-        new Pair<CardType, Integer>(CardType.SPIDER, 3),
-        new Pair<CardType, Integer>(CardType.SWAP, 1),
-        new Pair<CardType, Integer>(CardType.SWAP, 1)
-    ));
-
     private TurnController turnController;
+    private GameState gameState;
+    private GameBoard gameBoard;
+    private AutoSaver autoSaver;
 
 
     /**
@@ -72,42 +47,114 @@ public class BasicGameMode extends GameModeBase {
      * @param volcanoCardNum the number of volcano cards in the game
      */
     public BasicGameMode(MainMenuUI mainMenuUI, int playerCount, int volcanoCardNum) {
+        this(mainMenuUI, playerCount, volcanoCardNum, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Constructs a BasicGameMode object for a given game seed, so a game can be played again exactly.
+     *
+     * @param mainMenuUI the main menu UI to return to
+     * @param playerCount the number of players in the game
+     * @param volcanoCardNum the number of volcano cards in the game
+     * @param seed the seed the game is shuffled from
+     */
+    public BasicGameMode(MainMenuUI mainMenuUI, int playerCount, int volcanoCardNum, long seed) {
         this.mainMenuUI = mainMenuUI;
-        this.pauseMenuUI = new PauseMenuUI(this.mainMenuUI);
+        this.pauseMenuUI = new PauseMenuUI(this, this.mainMenuUI);
         this.playerCount = playerCount;
         this.turnController = new TurnController(playerCount);
         this.volcanoCardNum = volcanoCardNum;
 
-        ArrayList<CardType> caveList = new ArrayList<CardType>();
-        Collections.shuffle(this.caveTypes);
-        for(int i = 0; i < this.playerCount; i++) {
-            caveList.add(this.caveTypes.get(i));
-        }
+        GameSetup gameSetup = GameSetup.basic(this.playerCount, this.volcanoCardNum);
 
-        this.gameLevel = new GameBoard(this, this.turnController, caveList, this.tileTypes, this.volcanoCardNum, this.dragonCardValues);
+        this.gameState = gameSetup.createGameState(this.turnController, seed);
+        this.gameBoard = new GameBoard(this, this.gameState);
+        this.gameBoard.setEventListener(GameJournal.INSTANCE.startGame(this.gameState));
+        this.gameLevel = this.gameBoard;
         this.gameWinUI = new GameWinUI(this, this.gameManager, this.turnController, this.mainMenuUI);
     }
 
     public BasicGameMode(MainMenuUI mainMenuUI, Map<String, String> properties) {
         this.mainMenuUI = mainMenuUI;
-        this.pauseMenuUI = new PauseMenuUI(this.mainMenuUI);
+        this.pauseMenuUI = new PauseMenuUI(this, this.mainMenuUI);
         this.playerCount = Integer.parseInt(properties.get("playerCount"));
 
         int startingPlayer = Integer.parseInt(properties.get("currentPlayer")) - 1;
-        this.turnController = new TurnController(startingPlayer, playerCount);
+        // Saves from before the turn number was recorded resume at turn 1
+        int turnNumber = Integer.parseInt(properties.getOrDefault("turnNumber", "1"));
+        this.turnController = new TurnController(startingPlayer, playerCount, turnNumber);
 
-        this.gameLevel = new GameBoard(this, this.turnController, properties);
+        this.gameState = new GameState(this.turnController, properties);
+        this.gameBoard = new GameBoard(this, this.gameState);
+        this.gameBoard.setEventListener(GameJournal.INSTANCE.startGame(this.gameState));
+        this.gameLevel = this.gameBoard;
         this.gameWinUI = new GameWinUI(this, this.gameManager, this.turnController, this.mainMenuUI);
     }
 
     /**
-     * Handles the win condition by displaying the game win UI.
+     * Initializes the game mode, and starts autosaving the game if the game manager has autosave enabled.
+     * The autosave of a previous start of this game mode is finished first.
+     *
+     * @param gameManager the GameManager instance managing the game
+     */
+    @Override
+    public void initGame(GameManager gameManager) {
+        super.initGame(gameManager);
+
+        this.gameBoard.setFastPlay(gameManager.isFastPlayEnabled());
+        if(gameManager.isCanvasBoardEnabled()) {
+            this.gameBoard.setBoardRenderer(new CanvasBoardRenderer(this.gameState));
+        }
+
+        this.finishAutoSave();
+        if(gameManager.isAutoSaveEnabled()) {
+            this.autoSaver = new AutoSaver(this.gameState, SaveHandler.INSTANCE.getAutoSavePath());
+            this.autoSaver.start();
+            this.gameBoard.setAutoSaver(this.autoSaver);
+        }
+    }
+
+    /**
+     * Assigns a bot to a seat. The bot gets timeBudgetMillis to choose each card, after which a random card is flipped for it.
+     *
+     * @param playerID the ID of the player the bot plays
+     * @param botPlayer the bot, or null to hand the seat back to a human player
+     * @param timeBudgetMillis the time the bot has to choose each card, in milliseconds
+     */
+    public void setBotPlayer(int playerID, IBotPlayer botPlayer, long timeBudgetMillis) {
+        this.gameBoard.setBotPlayer(playerID, botPlayer == null ? null : new BotRunner(botPlayer, timeBudgetMillis));
+    }
+
+    /**
+     * Handles the win condition by displaying the game win UI. The finished game is no longer recovered or resumed from its autosave on startup.
      */
     @Override
     public void handleWin() {
+        GameJournal.INSTANCE.endGame(this.gameState);
+        this.finishAutoSave();
         StageController.INSTANCE.drawSceneHolder(this.gameWinUI);
     }
 
+    /**
+     * Handles leaving the game before it is won. The game is no longer recovered or resumed from its autosave on startup.
+     */
+    @Override
+    public void handleQuit() {
+        GameJournal.INSTANCE.endGame(this.gameState);
+        this.finishAutoSave();
+    }
+
+    /**
+     * Stops autosaving the game and deletes its autosave, if it was autosaved.
+     */
+    private void finishAutoSave() {
+        if(this.autoSaver != null) {
+            this.autoSaver.finish();
+            this.autoSaver = null;
+            this.gameBoard.setAutoSaver(null);
+        }
+    }
+
     @Override
     public void handlePause() {
         this.pauseMenuUI.setPreviousSceneHolder(this.gameLevel);
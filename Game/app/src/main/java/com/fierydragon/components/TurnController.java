@@ -9,6 +9,7 @@ package com.fierydragon.components;
 public class TurnController {
     private int turnPlayerID;
     private int playerCount;
+    private int turnNumber;
 
 
     /**
@@ -18,8 +19,20 @@ public class TurnController {
      * @param playerCount the total number of players in the game
      */
     public TurnController(int startPlayerID, int playerCount) {
+        this(startPlayerID, playerCount, 1);
+    }
+
+    /**
+     * Constructs a TurnController object resuming a game at the given turn.
+     *
+     * @param startPlayerID the ID of the player whose turn it is
+     * @param playerCount the total number of players in the game
+     * @param turnNumber the number of the current turn, starting at 1
+     */
+    public TurnController(int startPlayerID, int playerCount, int turnNumber) {
         this.turnPlayerID = startPlayerID;
         this.playerCount = playerCount;
+        this.turnNumber = turnNumber;
     }
 
     /**
@@ -40,11 +53,32 @@ public class TurnController {
         return this.turnPlayerID;
     }
 
+    /**
+     * Gets the number of the current turn, counting every player's turn.
+     *
+     * @return the turn number, starting at 1
+     */
+    public int getTurnNumber() {
+        return this.turnNumber;
+    }
+
+    /**
+     * Sets whose turn it is, as when resuming a saved game.
+     *
+     * @param turnPlayerID the ID of the player whose turn it is
+     * @param turnNumber the number of the current turn, starting at 1
+     */
+    public void setTurn(int turnPlayerID, int turnNumber) {
+        this.turnPlayerID = turnPlayerID;
+        this.turnNumber = turnNumber;
+    }
+
     /**
      * Advances to the next player's turn.
      */
     public void nextTurn() {
         this.turnPlayerID = (this.turnPlayerID + 1) % this.playerCount;
+        this.turnNumber++;
     }
 
     /**
@@ -52,5 +86,6 @@ public class TurnController {
      */
     public void reset() {
         this.turnPlayerID = 0;
+        this.turnNumber = 1;
     }
 }
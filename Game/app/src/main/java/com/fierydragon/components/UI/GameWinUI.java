@@ -7,7 +7,6 @@ import com.fierydragon.core.framework.GameModeBase;
 import com.fierydragon.core.framework.ResourceLoader;
 import com.fierydragon.core.framework.StageController;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
@@ -44,8 +43,7 @@ public class GameWinUI extends BaseUI {
         this.turnController = turnController;
         this.mainMenuUI = mainMenuUI;
 
-        String backgroundPath = ResourceLoader.ASSETS.getPath() + "background.png";
-        this.backgroundView = new ImageView(new Image(backgroundPath));
+        this.backgroundView = new ImageView(ResourceLoader.ASSETS.loadImage("background.png"));
     }
 
     /**
@@ -166,9 +164,10 @@ public class GameWinUI extends BaseUI {
     }
     
     /**
-     * Handles the action to return to the main menu.
+     * Handles the action to leave the game and return to the main menu.
      */
     private void handleMainMenu() {
+        this.gameMode.handleQuit();
         StageController.INSTANCE.drawSceneHolder(this.mainMenuUI);
     }
 }
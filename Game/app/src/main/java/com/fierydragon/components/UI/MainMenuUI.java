@@ -1,19 +1,17 @@
 package com.fierydragon.components.UI;
 
-import java.io.File;
 import java.util.Map;
 
 import com.fierydragon.components.BaseUI;
 import com.fierydragon.components.BasicGameMode;
 import com.fierydragon.core.framework.GameManager;
 import com.fierydragon.core.framework.ResourceLoader;
-import com.fierydragon.core.framework.SaveHandler;
+import com.fierydragon.core.framework.StageController;
 
+import javafx.application.Platform;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
-import javafx.stage.FileChooser;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
 
@@ -36,11 +34,19 @@ public class MainMenuUI extends BaseUI {
     private int volcanoCardCount = this.minVolcanoCardCount;
 
     private final GameManager gameManager;
+    private final SaveBrowserUI saveBrowserUI;
 
     private ImageView menuBackground;
     private Text playerCountText;
     private Text volcanoCardCountText;
 
+    // Fraction of the board images preloaded, shown in the bottom left corner while loading
+    private double loadingProgress;
+    private Text loadingText;
+
+    // Game left unfinished when the application last died, offered until a game is started
+    private Map<String, String> recoveredGame;
+
     /**
      * Constructs a MainMenuUI object.
      *
@@ -50,12 +56,15 @@ public class MainMenuUI extends BaseUI {
         this.UIName = "MainMenu";
 
         this.gameManager = gameManager;
+        this.saveBrowserUI = new SaveBrowserUI(this, gameManager);
 
-        String menuBackgroundPath = ResourceLoader.ASSETS.getPath() + "background.png";
-        this.menuBackground = new ImageView(new Image(menuBackgroundPath));
+        this.menuBackground = new ImageView(ResourceLoader.ASSETS.loadImage("background.png"));
 
         this.playerCountText = new Text();
         this.volcanoCardCountText = new Text();
+
+        this.loadingProgress = 0.0;
+        this.loadingText = new Text();
     }
 
     /**
@@ -344,52 +353,147 @@ public class MainMenuUI extends BaseUI {
 
         this.UIRoot.getChildren().addAll(exitButton, exitButtonText);
         // ================
-    }
 
+        // ================
+        // Fast Play and Board Renderer Toggles
+        double toggleButtonHeight = 0.5 * buttonHeight;
+        double fastPlayButtonY = menuHeight - toggleButtonHeight - 0.01 * menuHeight;
+        double canvasBoardButtonY = fastPlayButtonY - 1.2 * toggleButtonHeight;
+
+        this.addToggleButton(this.gameManager.isFastPlayEnabled() ? "FAST PLAY: ON" : "FAST PLAY: OFF",
+            MainMenuUI.getToggleColor(this.gameManager.isFastPlayEnabled()), fastPlayButtonY, toggleButtonHeight, this::handleFastPlayToggle);
+        this.addToggleButton(this.gameManager.isCanvasBoardEnabled() ? "BOARD: CANVAS" : "BOARD: NODES",
+            MainMenuUI.getToggleColor(this.gameManager.isCanvasBoardEnabled()), canvasBoardButtonY, toggleButtonHeight, this::handleCanvasBoardToggle);
+        // ================
+
+        // ================
+        // Resume Unfinished Game Button
+        if(this.recoveredGame != null && this.gameManager.getGameMode() == null) {
+            double resumeGameButtonY = canvasBoardButtonY - 1.2 * toggleButtonHeight;
+
+            this.addToggleButton("RESUME UNFINISHED GAME?", Color.web("#7ce66a"), resumeGameButtonY, toggleButtonHeight, this::handleResumeGame);
+        }
+        // ================
+
+        // ================
+        // Loading progress
+        if(this.loadingProgress > 0.0 && this.loadingProgress < 1.0) {
+            this.loadingText.setText("LOADING " + (int) (100 * this.loadingProgress) + "%");
+            this.loadingText.setFont(new Font(0.2 * buttonHeight));
+            this.loadingText.setFill(Color.WHITESMOKE);
+
+            double loadingTextX = 0.01 * menuHeight;
+            double loadingTextY = menuHeight - this.loadingText.getLayoutBounds().getHeight() - 0.01 * menuHeight;
+            this.loadingText.relocate(loadingTextX, loadingTextY);
+
+            this.UIRoot.getChildren().add(this.loadingText);
+        }
+        // ================
+    }
 
     /**
-     * Handles the action to start a new game.
+     * Adds a pill shaped button aligned to the right edge of the menu.
+     *
+     * @param label the text of the button
+     * @param fill the color of the button
+     * @param buttonY the y coordinate of the button
+     * @param buttonHeight the height of the button
+     * @param onToggle the action to run when clicked
      */
-    private void handleNewGame() {
-        this.gameManager.startGame(new BasicGameMode(this, this.playerCount, this.volcanoCardCount));
+    private void addToggleButton(String label, Color fill, double buttonY, double buttonHeight, Runnable onToggle) {
+        Text buttonText = new Text(label);
+        buttonText.setFont(new Font(0.4 * buttonHeight));
+        buttonText.setFill(Color.AZURE);
+
+        double buttonWidth = 1.2 * buttonText.getLayoutBounds().getWidth();
+        double buttonX = this.UIScene.getWidth() - buttonWidth - 0.01 * this.UIScene.getHeight();
+
+        Rectangle button = new Rectangle(buttonX, buttonY, buttonWidth, buttonHeight);
+        button.setArcWidth(buttonHeight);
+        button.setArcHeight(buttonHeight);
+        button.setFill(fill);
+
+        double buttonTextX = buttonX + 0.5 * (buttonWidth - buttonText.getLayoutBounds().getWidth());
+        double buttonTextY = buttonY + 0.5 * (buttonHeight - buttonText.getLayoutBounds().getHeight());
+        buttonText.relocate(buttonTextX, buttonTextY);
+
+        button.setOnMouseClicked(e -> onToggle.run());
+        buttonText.setOnMouseClicked(e -> onToggle.run());
+
+        this.UIRoot.getChildren().addAll(button, buttonText);
+    }
+
+    private static Color getToggleColor(boolean enabled) {
+        return enabled ? Color.web("#1ee5e8") : Color.web("#eb9b54").darker();
     }
 
     /**
-     * Handles the action to load a game.
+     * Offers to resume a game left unfinished when the application last died, until a game is started.
+     *
+     * @param recoveredGame the properties of the game, or null if there is none
      */
-    private void handleLoadGame() {
-        Map<String, String> properties = null;
-        FileChooser fileChooser = new FileChooser();
+    public void setRecoveredGame(Map<String, String> recoveredGame) {
+        this.recoveredGame = recoveredGame;
+        this.draw();
+    }
 
-        fileChooser.setTitle("Load Game");
+    /**
+     * Shows how far the board images are preloaded. Progress reported out of order never goes backwards.
+     *
+     * @param loadingProgress the fraction of images loaded, 1 once done
+     */
+    public void setLoadingProgress(double loadingProgress) {
+        if(loadingProgress > this.loadingProgress) {
+            this.loadingProgress = loadingProgress;
+            this.draw();
+        }
+    }
 
-        try {
-            File savesDirectory = new File(SaveHandler.INSTANCE.getSaveDirectory());
 
-            fileChooser.setInitialDirectory(savesDirectory);
+    /**
+     * Handles the action to start a new game.
+     */
+    private void handleNewGame() {
+        this.gameManager.startGame(new BasicGameMode(this, this.playerCount, this.volcanoCardCount));
+    }
 
-            File selectedFile = fileChooser.showOpenDialog(this.UIScene.getWindow());
+    /**
+     * Handles the action to resume the game left unfinished when the application last died.
+     */
+    private void handleResumeGame() {
+        this.gameManager.startGame(new BasicGameMode(this, this.recoveredGame));
+        this.recoveredGame = null;
+    }
 
-            if (selectedFile != null) {
-                properties = SaveHandler.INSTANCE.load(selectedFile.getAbsolutePath());
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-            return;
-        }
+    /**
+     * Handles the action to load a game by showing the save browser.
+     */
+    private void handleLoadGame() {
+        this.saveBrowserUI.showFirstPage();
+        StageController.INSTANCE.drawSceneHolder(this.saveBrowserUI);
+    }
 
-        if(properties == null) {
-            return;
-        }
+    /**
+     * Handles the action to turn fast play on or off for the games started from now on.
+     */
+    private void handleFastPlayToggle() {
+        this.gameManager.setFastPlayEnabled(!this.gameManager.isFastPlayEnabled());
+        this.draw();
+    }
 
-        this.gameManager.startGame(new BasicGameMode(this, properties));
+    /**
+     * Handles the action to draw the boards of the games started from now on into a canvas, or as nodes again.
+     */
+    private void handleCanvasBoardToggle() {
+        this.gameManager.setCanvasBoardEnabled(!this.gameManager.isCanvasBoardEnabled());
+        this.draw();
     }
 
     /**
-     * Handles the action to exit the application.
+     * Handles the action to exit the application, once the games left are no longer kept for recovery.
      */
     private void handleExit() {
-        System.exit(0);
+        Platform.exit();
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.fierydragon.components.UI;
 
 import com.fierydragon.components.BaseUI;
+import com.fierydragon.core.framework.GameModeBase;
 import com.fierydragon.core.framework.ResourceLoader;
 import com.fierydragon.core.framework.SaveHandler;
 import com.fierydragon.core.framework.StageController;
@@ -8,7 +9,7 @@ import com.fierydragon.core.interfaces.ISaveable;
 import com.fierydragon.core.interfaces.ISceneHolder;
 
 import javafx.animation.PauseTransition;
-import javafx.scene.image.Image;
+import javafx.application.Platform;
 import javafx.scene.image.ImageView;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
@@ -25,6 +26,7 @@ import javafx.util.Duration;
  * @author : All group member
  */
 public class PauseMenuUI extends BaseUI {
+    private final GameModeBase gameMode;
     private final MainMenuUI mainMenuUI;
     private ImageView menuBackground;
 
@@ -33,17 +35,18 @@ public class PauseMenuUI extends BaseUI {
 
 
     /**
-     * Constructs a new PauseMenuUI with the specified main menu UI.
+     * Constructs a new PauseMenuUI with the specified game mode and main menu UI.
      *
+     * @param gameMode the game mode being played, left when returning to the main menu
      * @param mainMenuUI the main menu UI associated with this pause menu
      */
-    public PauseMenuUI(MainMenuUI mainMenuUI) {
+    public PauseMenuUI(GameModeBase gameMode, MainMenuUI mainMenuUI) {
         this.UIName = "PauseMenu";
 
+        this.gameMode = gameMode;
         this.mainMenuUI = mainMenuUI;
 
-        String menuBackgroundPath = ResourceLoader.ASSETS.getPath() + "background.png";
-        this.menuBackground = new ImageView(new Image(menuBackgroundPath));
+        this.menuBackground = new ImageView(ResourceLoader.ASSETS.loadImage("background.png"));
     }
 
 
@@ -212,36 +215,50 @@ public class PauseMenuUI extends BaseUI {
 
     /**
      * Handles the action for saving the game by invoking the save handler on the target object
-     * and displaying a success message.
+     * and displaying a success message once the save is on disk.
      */
     private void handleSave() {
         if(this.saveTarget != null) {
-            SaveHandler.INSTANCE.save(this.saveTarget);
+            SaveHandler.INSTANCE.save(this.saveTarget).whenComplete((savePath, exception) -> {
+                if(exception != null) {
+                    exception.printStackTrace();
+                }
 
-            Text saveSuccessText = new Text("SAVE SUCCESS");
-            saveSuccessText.setFont(new Font(0.05 * this.UIScene.getHeight()));
-            saveSuccessText.setFill(Color.AZURE);
-
-            //display at bottom left
-            double saveSuccessTextX = 0.01 * this.UIScene.getWidth();
-            double saveSuccessTextY = 0.99 * this.UIScene.getHeight() - saveSuccessText.getLayoutBounds().getHeight();
-            saveSuccessText.relocate(saveSuccessTextX, saveSuccessTextY);
-
-            this.UIRoot.getChildren().add(saveSuccessText);
-
-            PauseTransition pause = new PauseTransition(Duration.seconds(2));
-            pause.setOnFinished(e -> {
-                this.UIRoot.getChildren().remove(saveSuccessText);
+                Platform.runLater(() -> this.showSaveMessage(exception == null ? "SAVE SUCCESS" : "SAVE FAILED"));
             });
-            pause.play();
         }
     }
 
+    /**
+     * Displays a message at the bottom left of the menu for two seconds.
+     *
+     * @param message the message to display
+     */
+    private void showSaveMessage(String message) {
+        Text saveMessageText = new Text(message);
+        saveMessageText.setFont(new Font(0.05 * this.UIScene.getHeight()));
+        saveMessageText.setFill(Color.AZURE);
+
+        //display at bottom left
+        double saveMessageTextX = 0.01 * this.UIScene.getWidth();
+        double saveMessageTextY = 0.99 * this.UIScene.getHeight() - saveMessageText.getLayoutBounds().getHeight();
+        saveMessageText.relocate(saveMessageTextX, saveMessageTextY);
+
+        this.UIRoot.getChildren().add(saveMessageText);
+
+        PauseTransition pause = new PauseTransition(Duration.seconds(2));
+        pause.setOnFinished(e -> {
+            this.UIRoot.getChildren().remove(saveMessageText);
+        });
+        pause.play();
+    }
+
 
     /**
-     * Handles the action for returning to the main menu by switching to the main menu UI.
+     * Handles the action for returning to the main menu by leaving the game and switching to the main menu UI.
      */
     private void handleMainMenu() {
+        this.gameMode.handleQuit();
         StageController.INSTANCE.drawSceneHolder(this.mainMenuUI);
     }
 }
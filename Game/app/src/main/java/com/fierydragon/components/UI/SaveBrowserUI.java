@@ -0,0 +1,271 @@
+package com.fierydragon.components.UI;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.fierydragon.components.BaseUI;
+import com.fierydragon.components.BasicGameMode;
+import com.fierydragon.core.framework.GameManager;
+import com.fierydragon.core.framework.ResourceLoader;
+import com.fierydragon.core.framework.SaveHandler;
+import com.fierydragon.core.framework.SaveIndex;
+import com.fierydragon.core.framework.SaveMetadata;
+import com.fierydragon.core.framework.StageController;
+
+import javafx.application.Platform;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+
+/**
+ * The SaveBrowserUI class lists the saved games page by page, newest first, and loads the one clicked.
+ * The list comes from the SaveIndex, so no save file is opened until one is picked.
+ */
+public class SaveBrowserUI extends BaseUI {
+    private final int pageSize = 6;
+
+    private final MainMenuUI mainMenuUI;
+    private final GameManager gameManager;
+    private final SaveIndex saveIndex;
+
+    private final SimpleDateFormat dateFormat;
+
+    private ImageView menuBackground;
+    private int page;
+
+    /**
+     * Constructs a SaveBrowserUI object.
+     *
+     * @param mainMenuUI the main menu to return to, and that loaded games return to
+     * @param gameManager the game manager controlling the game
+     */
+    public SaveBrowserUI(MainMenuUI mainMenuUI, GameManager gameManager) {
+        this.UIName = "SaveBrowser";
+
+        this.mainMenuUI = mainMenuUI;
+        this.gameManager = gameManager;
+        this.saveIndex = SaveHandler.INSTANCE.getSaveIndex();
+
+        this.dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm:ss");
+
+        this.menuBackground = new ImageView(ResourceLoader.ASSETS.loadImage("background.png"));
+        this.page = 0;
+
+        // The index changes on background threads, redraw once on the FX thread
+        this.saveIndex.addChangeListener(() -> Platform.runLater(this.resizeCoalescer::requestLayout));
+    }
+
+    /**
+     * Shows the first page of saves.
+     */
+    public void showFirstPage() {
+        this.page = 0;
+        this.resizeCoalescer.requestLayout();
+    }
+
+    /**
+     * Draws the SaveBrowserUI elements on the screen: the background, title, a page of saves and the navigation buttons.
+     */
+    @Override
+    public void draw() {
+        this.UIRoot.getChildren().clear();
+
+        int pageCount = Math.max(1, (this.saveIndex.getSaveCount() + this.pageSize - 1) / this.pageSize);
+        this.page = Math.min(this.page, pageCount - 1);
+
+        // ================
+        // Menu Background
+        this.menuBackground.setX(0);
+        this.menuBackground.setY(0);
+        this.menuBackground.setFitWidth(this.UIScene.getWidth());
+        this.menuBackground.setFitHeight(this.UIScene.getHeight());
+        this.menuBackground.setOpacity(0.85);
+
+        this.UIRoot.getChildren().add(this.menuBackground);
+        // ================
+
+        // ================
+        // Menu Bounds
+        double menuHeight = this.UIScene.getHeight();
+        double menuWidth = 0.6 * this.UIScene.getWidth();
+        double menuX = 0.5 * (this.UIScene.getWidth() - menuWidth);
+        double menuY = 0;
+
+        Rectangle menuBound = new Rectangle(menuX, menuY, menuWidth, menuHeight);
+        menuBound.setFill(Color.web("#eb9b54", 0.5));
+
+        this.UIRoot.getChildren().add(menuBound);
+        // ================
+
+        // ================
+        // Menu Title
+        Text menuTitle = new Text("LOAD GAME");
+        menuTitle.setFont(new Font(0.12 * menuHeight));
+        menuTitle.setFill(Color.AZURE);
+        menuTitle.setStroke(Color.web("#eb9b54").brighter());
+        menuTitle.setStrokeWidth(0.005 * menuHeight);
+
+        double menuTitleX = 0.5 * (this.UIScene.getWidth() - menuTitle.getLayoutBounds().getWidth());
+        double menuTitleY = 0.01 * menuHeight;
+        menuTitle.relocate(menuTitleX, menuTitleY);
+
+        this.UIRoot.getChildren().add(menuTitle);
+        // ================
+
+        // ================
+        // Save rows
+        double rowHeight = 0.09 * menuHeight;
+        double rowWidth = 0.9 * menuWidth;
+        double rowX = menuX + 0.5 * (menuWidth - rowWidth);
+        double rowSpacing = 1.15 * rowHeight;
+        double rowY = 0.18 * menuHeight;
+
+        List<SaveMetadata> saves = this.saveIndex.getSaves(this.page, this.pageSize);
+
+        if(saves.isEmpty()) {
+            Text emptyText = new Text("NO SAVED GAMES");
+            emptyText.setFont(new Font(0.4 * rowHeight));
+            emptyText.setFill(Color.WHITESMOKE);
+            emptyText.relocate(menuX + 0.5 * (menuWidth - emptyText.getLayoutBounds().getWidth()), rowY);
+
+            this.UIRoot.getChildren().add(emptyText);
+        }
+
+        for(SaveMetadata saveMetadata : saves) {
+            Rectangle row = new Rectangle(rowX, rowY, rowWidth, rowHeight);
+            row.setArcWidth(0.5 * rowHeight);
+            row.setArcHeight(0.5 * rowHeight);
+            row.setFill(Color.WHITESMOKE);
+            row.setStroke(Color.web("#eb9b54").darker());
+            row.setStrokeWidth(0.02 * rowHeight);
+
+            Text rowText = new Text(
+                this.dateFormat.format(new Date(saveMetadata.getTimestamp()))
+                + "   " + saveMetadata.getPlayerCount() + " PLAYERS"
+                + "   TURN " + saveMetadata.getTurnNumber()
+                + "   PLAYER " + saveMetadata.getCurrentPlayer() + " TO PLAY"
+                + "   " + saveMetadata.getVolcanoCardCount() + " VOLCANO CARDS"
+            );
+            rowText.setFont(new Font(0.3 * rowHeight));
+            rowText.setFill(Color.web("#eb9b54").darker());
+
+            double rowTextX = rowX + 0.03 * rowWidth;
+            double rowTextY = rowY + 0.5 * (rowHeight - rowText.getLayoutBounds().getHeight());
+            rowText.relocate(rowTextX, rowTextY);
+
+            row.setOnMouseClicked(e -> this.handleLoadSave(saveMetadata));
+            rowText.setOnMouseClicked(e -> this.handleLoadSave(saveMetadata));
+
+            this.UIRoot.getChildren().addAll(row, rowText);
+
+            rowY += rowSpacing;
+        }
+        // ================
+
+        // ================
+        // Navigation buttons constraints
+        double buttonHeight = 0.1 * menuHeight;
+        double buttonWidth = 0.25 * menuWidth;
+        double buttonY = 0.88 * menuHeight;
+        // ================
+
+        // ================
+        // Previous Page Button
+        double previousButtonX = menuX + 0.05 * menuWidth;
+        this.drawButton("PREV", previousButtonX, buttonY, buttonWidth, buttonHeight, Color.web("#1ee5e8"), () -> this.handlePageChange(-1));
+        // ================
+
+        // ================
+        // Page Display
+        Text pageText = new Text((this.page + 1) + " / " + pageCount);
+        pageText.setFont(new Font(0.4 * buttonHeight));
+        pageText.setFill(Color.AZURE);
+
+        double pageTextX = menuX + 0.5 * (menuWidth - pageText.getLayoutBounds().getWidth());
+        double pageTextY = buttonY + 0.5 * (buttonHeight - pageText.getLayoutBounds().getHeight());
+        pageText.relocate(pageTextX, pageTextY);
+
+        this.UIRoot.getChildren().add(pageText);
+        // ================
+
+        // ================
+        // Next Page Button
+        double nextButtonX = menuX + 0.95 * menuWidth - buttonWidth;
+        this.drawButton("NEXT", nextButtonX, buttonY, buttonWidth, buttonHeight, Color.web("#1ee5e8"), () -> this.handlePageChange(1));
+        // ================
+
+        // ================
+        // Back Button
+        double backButtonX = 0.01 * this.UIScene.getWidth();
+        double backButtonY = 0.01 * menuHeight;
+        this.drawButton("BACK", backButtonX, backButtonY, 0.5 * buttonWidth, buttonHeight, Color.web("#fa564a"), () -> this.handleBack());
+        // ================
+    }
+
+    /**
+     * Draws a rounded button with a centered label.
+     *
+     * @param label the button label
+     * @param x the x position of the button
+     * @param y the y position of the button
+     * @param width the width of the button
+     * @param height the height of the button
+     * @param fill the button colour
+     * @param action the action to run when the button is clicked
+     */
+    private void drawButton(String label, double x, double y, double width, double height, Color fill, Runnable action) {
+        Rectangle button = new Rectangle(x, y, width, height);
+        button.setArcWidth(height);
+        button.setArcHeight(height);
+        button.setFill(fill);
+
+        Text buttonText = new Text(label);
+        buttonText.setFont(new Font(0.4 * height));
+        buttonText.setFill(Color.AZURE);
+
+        double buttonTextX = x + 0.5 * (width - buttonText.getLayoutBounds().getWidth());
+        double buttonTextY = y + 0.5 * (height - buttonText.getLayoutBounds().getHeight());
+        buttonText.relocate(buttonTextX, buttonTextY);
+
+        button.setOnMouseClicked(e -> action.run());
+        buttonText.setOnMouseClicked(e -> action.run());
+
+        this.UIRoot.getChildren().addAll(button, buttonText);
+    }
+
+    /**
+     * Handles the action to move to another page of saves.
+     *
+     * @param pageChange the number of pages to move by
+     */
+    private void handlePageChange(int pageChange) {
+        this.page = Math.max(0, this.page + pageChange);
+        this.draw();
+    }
+
+    /**
+     * Handles the action to load a save and start the game from it.
+     *
+     * @param saveMetadata the save to load
+     */
+    private void handleLoadSave(SaveMetadata saveMetadata) {
+        Map<String, String> properties = SaveHandler.INSTANCE.load(SaveHandler.INSTANCE.getSaveDirectory() + saveMetadata.getFileName());
+
+        if(properties == null) {
+            return;
+        }
+
+        this.gameManager.startGame(new BasicGameMode(this.mainMenuUI, properties));
+    }
+
+    /**
+     * Handles the action to return to the main menu.
+     */
+    private void handleBack() {
+        StageController.INSTANCE.drawSceneHolder(this.mainMenuUI);
+    }
+}
@@ -1,14 +1,34 @@
 package com.fierydragon.components.app;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import com.fierydragon.components.BasicGameMode;
 import com.fierydragon.components.UI.MainMenuUI;
+import com.fierydragon.components.engine.AutoSaver;
+import com.fierydragon.components.engine.BinarySaveCodec;
+import com.fierydragon.components.engine.GameJournal;
+import com.fierydragon.components.level.object.CardAtlas;
 import com.fierydragon.core.framework.GameManager;
+import com.fierydragon.core.framework.GameModeBase;
+import com.fierydragon.core.framework.SaveArchive;
+import com.fierydragon.core.framework.SaveHandler;
 import com.fierydragon.core.framework.StageController;
+import com.fierydragon.core.framework.StartupMetrics;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 
 /**
  * Main entry point for the application
+ *
+ * Options: --autosave (autosaves every turn), --archive=FILE --slot=N (opens a game saved by the simulator to a SaveArchive),
+ * --measure-startup (prints the time to the first frame and to the first game board, then exits),
+ * --fast-play (plays without animations, for bot games and automated runs),
+ * --canvas-board (draws the board into a single canvas)
  * 
  * @author Chang Yi Zhong
  */
@@ -23,8 +43,24 @@ public class MainApp extends Application {
      */
     @Override
     public void init() {
+        SaveHandler.INSTANCE.setSaveCodec(new BinarySaveCodec());
+
         this.gameManager = new GameManager();
+        this.gameManager.setAutoSaveEnabled(this.getParameters().getRaw().contains("--autosave"));
+        this.gameManager.setFastPlayEnabled(this.getParameters().getRaw().contains("--fast-play"));
+        this.gameManager.setCanvasBoardEnabled(this.getParameters().getRaw().contains("--canvas-board"));
+
+        // A measured start must not leave a game behind to recover
+        GameJournal.INSTANCE.setEnabled(!this.getParameters().getRaw().contains("--measure-startup"));
         this.mainMenu = new MainMenuUI(this.gameManager);
+
+        // Decode the board images while the main menu is shown, so the first game starts without a stall
+        CardAtlas.INSTANCE.preload((progress) -> Platform.runLater(() -> this.mainMenu.setLoadingProgress(progress))).whenComplete((ignored, exception) -> {
+            if(exception != null) {
+                exception.printStackTrace();
+            }
+            Platform.runLater(() -> this.mainMenu.setLoadingProgress(1.0));
+        });
     }
 
     /**
@@ -38,6 +74,83 @@ public class MainApp extends Application {
         StageController.INSTANCE.show();
 
         StageController.INSTANCE.drawSceneHolder(this.mainMenu);
+
+        if(this.getParameters().getRaw().contains("--measure-startup")) {
+            this.measureStartup();
+            return;
+        }
+
+        Map<String, String> namedParameters = this.getParameters().getNamed();
+        if(namedParameters.containsKey("archive")) {
+            Map<String, String> archivedGame = MainApp.loadArchivedGame(namedParameters.get("archive"), Integer.parseInt(namedParameters.getOrDefault("slot", "0")));
+            if(archivedGame != null) {
+                this.gameManager.startGame(new BasicGameMode(this.mainMenu, archivedGame));
+            }
+            return;
+        }
+
+        // A game was left unfinished when the application last died, offer to resume it
+        Map<String, String> recoveredGame = GameJournal.INSTANCE.recover();
+        if(recoveredGame == null && this.gameManager.isAutoSaveEnabled()) {
+            recoveredGame = AutoSaver.load(SaveHandler.INSTANCE.getAutoSavePath());
+        }
+        if(recoveredGame != null) {
+            this.mainMenu.setRecoveredGame(recoveredGame);
+        }
+    }
+
+    /**
+     * Stops the application
+     * 
+     * Runs when the application exits normally. The game being played is left, so it is only recovered after a crash.
+     */
+    @Override
+    public void stop() {
+        GameModeBase gameMode = this.gameManager.getGameMode();
+        if(gameMode != null) {
+            gameMode.handleQuit();
+        }
+        GameJournal.INSTANCE.awaitWrites();
+        AutoSaver.awaitWrites();
+    }
+
+    /**
+     * Records the first frame of the main menu, then starts a game as a player would right away and records the
+     * first frame of its board, prints both and exits. Also the training run of the class-data-sharing archive.
+     */
+    private void measureStartup() {
+        StartupMetrics.INSTANCE.recordFirstPulse("first-frame", this.mainMenu.getScene(), () -> Platform.runLater(() -> {
+            BasicGameMode gameMode = new BasicGameMode(this.mainMenu, 2, 8);
+            this.gameManager.startGame(gameMode);
+
+            StartupMetrics.INSTANCE.recordFirstPulse("first-board", gameMode.getGameLevel().getScene(), () -> {
+                for(Map.Entry<String, Long> milestone: StartupMetrics.INSTANCE.getMilestones().entrySet()) {
+                    System.out.println("Startup " + milestone.getKey() + ": " + milestone.getValue() + " ms");
+                }
+                Platform.exit();
+            });
+        }));
+    }
+
+    /**
+     * Loads a game from a slot of an archive.
+     *
+     * @param archivePath the archive file
+     * @param slotID the ID of the slot
+     * @return the properties of the game, or null if it cannot be loaded
+     */
+    private static Map<String, String> loadArchivedGame(String archivePath, int slotID) {
+        if(!Files.exists(Paths.get(archivePath))) {
+            System.err.println("No save archive at " + archivePath);
+            return null;
+        }
+
+        try(SaveArchive archive = SaveArchive.open(Paths.get(archivePath), 1)) {
+            return SaveHandler.INSTANCE.load(archive, slotID);
+        } catch(IOException e) {
+            e.printStackTrace();
+            return null;
+        }
     }
 
     /**
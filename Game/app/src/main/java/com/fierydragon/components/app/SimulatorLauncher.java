@@ -0,0 +1,143 @@
+package com.fierydragon.components.app;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fierydragon.components.TurnController;
+import com.fierydragon.components.engine.BinarySaveCodec;
+import com.fierydragon.components.engine.DragonCard;
+import com.fierydragon.components.engine.GameSetup;
+import com.fierydragon.components.enums.CardType;
+import com.fierydragon.components.interfaces.IMovePolicy;
+import com.fierydragon.components.simulation.GameSimulator;
+import com.fierydragon.components.simulation.GreedyMovePolicy;
+import com.fierydragon.components.simulation.RandomMovePolicy;
+import com.fierydragon.components.simulation.SimulationResult;
+import com.fierydragon.core.framework.ByteBufferSaveWriter;
+import com.fierydragon.core.framework.SaveArchive;
+
+/**
+ * Headless Monte Carlo simulator launcher
+ *
+ * Options (all optional):
+ * --games N, --players N, --volcano-cards N, --max-flips N, --threads N,
+ * --policies random,greedy,... (one per seat, the last one repeats),
+ * --deck TYPE:VALUE,TYPE:VALUE,... (replaces the basic dragon card deck),
+ * --seed N (seed of the batch, random by default),
+ * --replay N (plays only the game with this game seed, e.g. an unfinished game reported by a batch),
+ * --archive FILE (saves the final state of every game of the batch to a SaveArchive, see MainApp to load one)
+ */
+public class SimulatorLauncher {
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<String, String>();
+        for(int i = 0; i + 1 < args.length; i += 2) {
+            options.put(args[i].replaceFirst("^--", ""), args[i + 1]);
+        }
+
+        int gameCount = Integer.parseInt(options.getOrDefault("games", "100000"));
+        int playerCount = Integer.parseInt(options.getOrDefault("players", "4"));
+        int volcanoCardNum = Integer.parseInt(options.getOrDefault("volcano-cards", "8"));
+        int maxFlips = Integer.parseInt(options.getOrDefault("max-flips", "100000"));
+        int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        long seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(ThreadLocalRandom.current().nextLong())));
+
+        GameSetup gameSetup = GameSetup.basic(playerCount, volcanoCardNum);
+        if(options.containsKey("deck")) {
+            ArrayList<DragonCard> deck = gameSetup.getDragonCardValues();
+            deck.clear();
+            for(String card : options.get("deck").split(",")) {
+                String[] split = card.split(":");
+                deck.add(new DragonCard(CardType.valueOf(split[0].trim()), Integer.parseInt(split[1].trim())));
+            }
+        }
+
+        String[] policyNames = options.getOrDefault("policies", "random").split(",");
+        IMovePolicy[] seatPolicies = new IMovePolicy[playerCount];
+        for(int i = 0; i < playerCount; i++) {
+            seatPolicies[i] = SimulatorLauncher.createPolicy(policyNames[Math.min(i, policyNames.length - 1)].trim());
+        }
+
+        GameSimulator simulator = new GameSimulator(gameSetup, seatPolicies, maxFlips, seed);
+
+        if(options.containsKey("replay")) {
+            long gameSeed = Long.parseLong(options.get("replay"));
+            SimulationResult result = new SimulationResult(playerCount);
+            simulator.playGame(gameSeed, result);
+
+            System.out.printf("Game %d: %s after %.0f turns, %.0f flips%n", gameSeed,
+                result.getUnfinishedGames() > 0 ? "unfinished" : "won by seat " + SimulatorLauncher.getWinningSeat(result),
+                result.getMeanTurns(), result.getMeanFlips());
+            return;
+        }
+
+        SaveArchive archive = null;
+        if(options.containsKey("archive")) {
+            // Binary saves of one setup all have the size of a fresh game's
+            ByteBufferSaveWriter writer = new ByteBufferSaveWriter(1024);
+            BinarySaveCodec.writeSave(gameSetup.createGameState(new TurnController(playerCount)), writer);
+
+            archive = SaveArchive.open(Paths.get(options.get("archive")), writer.size());
+            simulator.setArchive(archive);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+
+        long startTime = System.nanoTime();
+        SimulationResult result = simulator.run(gameCount, pool);
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        pool.shutdown();
+
+        if(archive != null) {
+            System.out.printf("Archived to %s (%d saves)%n", options.get("archive"), archive.getSaveCount());
+            archive.close();
+        }
+
+        System.out.printf("Games: %d (%d unfinished) on %d threads in %.2fs (%.0f games/s), seed %d%n",
+            result.getGamesPlayed(), result.getUnfinishedGames(), threads, seconds, result.getGamesPlayed() / seconds, seed);
+        if(result.getUnfinishedGames() > 0) {
+            System.out.printf("Replay an unfinished game with --replay %d%n", result.getUnfinishedGameSeed());
+        }
+        for(int i = 0; i < result.getPlayerCount(); i++) {
+            System.out.printf("Seat %d (%s): win rate %.4f%n", i + 1, seatPolicies[i].getClass().getSimpleName(), result.getWinRate(i));
+        }
+        System.out.printf("Mean game length: %.2f turns, %.2f flips%n", result.getMeanTurns(), result.getMeanFlips());
+        System.out.printf("Swap cards: %.3f per game, %.4f per flip%n", result.getSwapCardsPerGame(), result.getSwapCardFrequency());
+    }
+
+    /**
+     * Gets the seat that won the single game recorded in a result.
+     *
+     * @param result the result of one finished game
+     * @return the winning seat, starting at 1
+     */
+    private static int getWinningSeat(SimulationResult result) {
+        for(int i = 0; i < result.getPlayerCount(); i++) {
+            if(result.getWins(i) > 0) {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Creates a move policy by name.
+     *
+     * @param name the policy name (random or greedy)
+     * @return the move policy
+     */
+    private static IMovePolicy createPolicy(String name) {
+        switch(name) {
+            case "greedy":
+                return new GreedyMovePolicy();
+            case "random":
+                return new RandomMovePolicy();
+            default:
+                throw new IllegalArgumentException("Unknown move policy: " + name);
+        }
+    }
+}
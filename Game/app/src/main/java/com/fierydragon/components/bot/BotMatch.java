@@ -0,0 +1,69 @@
+package com.fierydragon.components.bot;
+
+import com.fierydragon.components.TurnController;
+import com.fierydragon.components.engine.DragonCard;
+import com.fierydragon.components.engine.GameSetup;
+import com.fierydragon.components.engine.GameState;
+import com.fierydragon.components.engine.MoveResult;
+import com.fierydragon.components.engine.RulesEngine;
+
+/**
+ * The BotMatch class plays a headless game between bots with the RulesEngine, with the same BotRunner
+ * time budgets as on the GameBoard. Used for unattended bot-vs-bot soak tests.
+ */
+public class BotMatch {
+    private final GameSetup gameSetup;
+    private final BotRunner[] seatBots;
+    private final int maxFlips;
+
+    /**
+     * Constructs a BotMatch.
+     *
+     * @param gameSetup the configuration of the game
+     * @param seatBots the bot of each seat, one per player
+     * @param maxFlips the number of flips after which the game is stopped as unfinished
+     */
+    public BotMatch(GameSetup gameSetup, BotRunner[] seatBots, int maxFlips) {
+        if(seatBots.length != gameSetup.getPlayerCount()) {
+            throw new IllegalArgumentException("Expected " + gameSetup.getPlayerCount() + " bots, got " + seatBots.length);
+        }
+
+        this.gameSetup = gameSetup;
+        this.seatBots = seatBots;
+        this.maxFlips = maxFlips;
+    }
+
+    /**
+     * Plays the game to the end (or until maxFlips).
+     *
+     * @return the ID of the winning player, or GameState.NO_PLAYER if the game was stopped
+     */
+    public int play() {
+        TurnController turnController = new TurnController(this.gameSetup.getPlayerCount());
+        GameState gameState = this.gameSetup.createGameState(turnController);
+        RulesEngine rulesEngine = new RulesEngine(gameState);
+
+        for(int flips = 0; flips < this.maxFlips; flips++) {
+            // Every card flipped without the turn ending, so there is nothing left to pick
+            if(gameState.getFaceDownCardCount() == 0) {
+                rulesEngine.nextTurn();
+            }
+
+            int playerID = turnController.getTurnPlayerID();
+            int cardID = this.seatBots[playerID].chooseCard(gameState, playerID).join();
+
+            DragonCard card = gameState.getDragonCard(cardID);
+            MoveResult moveResult = rulesEngine.flipCard(cardID);
+
+            for(BotRunner bot : this.seatBots) {
+                bot.observeCard(cardID, card.getCardType(), card.getCardValue());
+            }
+
+            if(moveResult.isWin()) {
+                return playerID;
+            }
+        }
+
+        return GameState.NO_PLAYER;
+    }
+}
@@ -0,0 +1,113 @@
+package com.fierydragon.components.bot;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import com.fierydragon.components.engine.GameState;
+import com.fierydragon.components.enums.CardType;
+import com.fierydragon.components.interfaces.IBotPlayer;
+
+/**
+ * The BotRunner class runs a bot player off the calling thread with a time budget per move.
+ *
+ * Calls to the bot are queued and run one at a time on a shared pool of daemon threads, so the caller
+ * (the FX thread, or a headless game loop) never waits on the bot. A bot that misses its deadline, throws or
+ * picks a card that cannot be flipped is replaced for that move by a random face down card.
+ */
+public class BotRunner {
+    private static final ExecutorService BOT_EXECUTOR = Executors.newCachedThreadPool((runnable) -> {
+        Thread thread = new Thread(runnable, "BotPlayer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final IBotPlayer botPlayer;
+    private final long timeBudgetNanos;
+
+    // Tail of the bot's call queue
+    private CompletableFuture<Void> pendingCalls;
+
+    /**
+     * Constructs a BotRunner.
+     *
+     * @param botPlayer the bot to run
+     * @param timeBudgetMillis the time the bot has to choose each card, in milliseconds
+     */
+    public BotRunner(IBotPlayer botPlayer, long timeBudgetMillis) {
+        this.botPlayer = botPlayer;
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        this.pendingCalls = CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Shows the bot a card turned face up. Returns immediately, the bot sees it before its next choice.
+     *
+     * @param cardID the index of the card
+     * @param cardType the type of the card
+     * @param cardValue the value of the card
+     */
+    public void observeCard(int cardID, CardType cardType, int cardValue) {
+        this.enqueue(() -> this.botPlayer.observeCard(cardID, cardType, cardValue));
+    }
+
+    /**
+     * Asks the bot for the next card to flip. The game state must not change until the returned future completes.
+     *
+     * @param gameState the state of the game, with at least one card face down
+     * @param playerID the ID of the player to choose for
+     * @return a future completed, within the time budget, with the index of a face down card
+     */
+    public CompletableFuture<Integer> chooseCard(GameState gameState, int playerID) {
+        long deadlineNanos = System.nanoTime() + this.timeBudgetNanos;
+        int fallbackCardID = BotRunner.pickRandomCard(gameState);
+
+        CompletableFuture<Integer> choice = new CompletableFuture<Integer>();
+        this.enqueue(() -> {
+            try {
+                choice.complete(this.botPlayer.chooseCard(gameState, playerID, deadlineNanos));
+            } catch(RuntimeException e) {
+                e.printStackTrace();
+                choice.complete(fallbackCardID);
+            }
+        });
+
+        return choice
+            .completeOnTimeout(fallbackCardID, this.timeBudgetNanos, TimeUnit.NANOSECONDS)
+            .thenApply((cardID) -> BotRunner.isFaceDown(gameState, cardID) ? cardID : fallbackCardID);
+    }
+
+    /**
+     * Queues a call to the bot behind the previous ones. A failed call does not stop the queue.
+     *
+     * @param call the call to run
+     */
+    private synchronized void enqueue(Runnable call) {
+        this.pendingCalls = this.pendingCalls.handleAsync((result, exception) -> {
+            call.run();
+            return null;
+        }, BotRunner.BOT_EXECUTOR);
+    }
+
+    private static boolean isFaceDown(GameState gameState, int cardID) {
+        return cardID >= 0 && cardID < gameState.getDragonCardCount() && !gameState.getDragonCard(cardID).isFlipped();
+    }
+
+    /**
+     * Picks a uniformly random face down card.
+     *
+     * @param gameState the state of the game, with at least one card face down
+     * @return the index of the card
+     */
+    private static int pickRandomCard(GameState gameState) {
+        int pick = ThreadLocalRandom.current().nextInt(gameState.getFaceDownCardCount());
+        for(int i = 0; i < gameState.getDragonCardCount(); i++) {
+            if(!gameState.getDragonCard(i).isFlipped() && pick-- == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
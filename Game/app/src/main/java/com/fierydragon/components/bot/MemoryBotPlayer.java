@@ -0,0 +1,111 @@
+package com.fierydragon.components.bot;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import com.fierydragon.components.engine.GameState;
+import com.fierydragon.components.enums.CardType;
+import com.fierydragon.components.interfaces.IBotPlayer;
+
+/**
+ * Bot player remembering every card it has seen turned face up. It flips the remembered card moving it furthest,
+ * or an unseen card when nothing remembered beats a gamble, and avoids the cards it knows would end its turn.
+ */
+public class MemoryBotPlayer implements IBotPlayer {
+    // Score of a card that ends the turn without moving
+    private static final double PASS_SCORE = -0.5;
+    // Score of a card never seen: better than a pass, worse than any known move forward
+    private static final double UNKNOWN_SCORE = 0.25;
+    // Cards scored between two deadline checks
+    private static final int DEADLINE_CHECK_INTERVAL = 256;
+
+    private final RandomGenerator random;
+
+    // Remembered faces by card index, null type when not seen yet
+    private CardType[] seenCardTypes;
+    private int[] seenCardValues;
+
+    /**
+     * Constructs a MemoryBotPlayer breaking ties with its own random generator.
+     */
+    public MemoryBotPlayer() {
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a MemoryBotPlayer.
+     *
+     * @param random the random generator used to break ties
+     */
+    public MemoryBotPlayer(RandomGenerator random) {
+        this.random = random;
+        this.seenCardTypes = new CardType[0];
+        this.seenCardValues = new int[0];
+    }
+
+    @Override
+    public void observeCard(int cardID, CardType cardType, int cardValue) {
+        if(cardID >= this.seenCardTypes.length) {
+            int length = Math.max(cardID + 1, 2 * this.seenCardTypes.length);
+            this.seenCardTypes = Arrays.copyOf(this.seenCardTypes, length);
+            this.seenCardValues = Arrays.copyOf(this.seenCardValues, length);
+        }
+
+        this.seenCardTypes[cardID] = cardType;
+        this.seenCardValues[cardID] = cardValue;
+    }
+
+    @Override
+    public int chooseCard(GameState gameState, int playerID, long deadlineNanos) {
+        int bestCardID = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+
+        for(int i = 0; i < gameState.getDragonCardCount(); i++) {
+            // Out of time: settle for the best card so far
+            if(i % DEADLINE_CHECK_INTERVAL == 0 && bestCardID != -1 && System.nanoTime() - deadlineNanos > 0) {
+                break;
+            }
+
+            if(!gameState.getDragonCard(i).isFlipped()) {
+                // Random tie break so equal cards are not always taken in deck order
+                double score = this.scoreCard(gameState, playerID, i) + 0.01 * this.random.nextDouble();
+
+                if(score > bestScore) {
+                    bestScore = score;
+                    bestCardID = i;
+                }
+            }
+        }
+        return bestCardID;
+    }
+
+    /**
+     * Scores a card by the number of tiles it is remembered to move the player forward.
+     *
+     * @param gameState the state of the game
+     * @param playerID the ID of the player
+     * @param cardID the index of the card
+     * @return the score, higher is better
+     */
+    private double scoreCard(GameState gameState, int playerID, int cardID) {
+        if(cardID >= this.seenCardTypes.length || this.seenCardTypes[cardID] == null) {
+            return MemoryBotPlayer.UNKNOWN_SCORE;
+        }
+
+        CardType cardType = this.seenCardTypes[cardID];
+        int cardValue = this.seenCardValues[cardID];
+        int tilesLeft = gameState.getTilesLeft(playerID);
+
+        if(cardType == CardType.SWAP) {
+            return 0.0;
+        }
+        if(cardValue < 0) {
+            return gameState.getCurrentTileID(playerID) == 0 ? MemoryBotPlayer.PASS_SCORE : cardValue;
+        }
+        if(cardType == gameState.getCurrentTileType(playerID) && cardValue <= tilesLeft) {
+            return cardValue == tilesLeft ? Double.MAX_VALUE : cardValue;
+        }
+        return MemoryBotPlayer.PASS_SCORE;
+    }
+}
@@ -0,0 +1,273 @@
+package com.fierydragon.components.engine;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import com.fierydragon.core.framework.SaveHandler;
+
+/**
+ * The AutoSaver class saves a game after every turn, writing only what changed since the previous autosave.
+ *
+ * The autosave file holds a full snapshot followed by one delta per turn:
+ * magic "FDAS" (int), version (short), snapshot length (int), snapshot (BinarySaveCodec), then deltas of
+ * turn number (int), current player ID (byte), changed player count (short), per changed player its ID (byte),
+ * cave tile (int), current tile (int), current tile code (byte) and tiles left (int), then the number of cards
+ * flipped or turned back (int) and their indices (int).
+ *
+ * The game thread only builds the full property map once, when autosaving starts. Every SNAPSHOT_INTERVAL
+ * turns, the background thread folds the deltas into its copy of the snapshot and rewrites the file (compaction).
+ * Writes for every game share one background thread, in the order they were requested.
+ */
+public class AutoSaver {
+    private static final ExecutorService AUTOSAVE_EXECUTOR = Executors.newSingleThreadExecutor((runnable) -> {
+        Thread thread = new Thread(runnable, "AutoSave");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final int MAGIC = 0x46444153;
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 2 + 4;
+
+    // Deltas appended between two compactions
+    private static final int SNAPSHOT_INTERVAL = 32;
+
+    private final Path autosavePath;
+    private final GameState gameState;
+    private final BinarySaveCodec snapshotCodec;
+
+    // ===============
+    // Game thread state
+    private BitSet savedFlippedCards;
+    private int deltaCount;
+    private boolean finished;
+    // ===============
+
+    // ===============
+    // Background thread state: the last snapshot written and the deltas appended since
+    private Map<String, String> snapshot;
+    private List<byte[]> deltas;
+    // ===============
+
+    /**
+     * Constructs an AutoSaver.
+     *
+     * @param gameState the state of the game to autosave
+     * @param autosavePath the autosave file
+     */
+    public AutoSaver(GameState gameState, Path autosavePath) {
+        this.autosavePath = autosavePath;
+        this.gameState = gameState;
+        this.snapshotCodec = new BinarySaveCodec();
+        this.deltas = new ArrayList<byte[]>();
+    }
+
+    /**
+     * Writes a full snapshot of the game as it is now, replacing any previous autosave.
+     */
+    public void start() {
+        Map<String, String> properties = new LinkedHashMap<String, String>();
+        this.gameState.invokeSave(properties, "");
+
+        this.savedFlippedCards = this.getFlippedCards();
+        this.gameState.takeChangedPlayers();
+        this.deltaCount = 0;
+
+        AutoSaver.AUTOSAVE_EXECUTOR.execute(() -> {
+            this.snapshot = properties;
+            this.deltas.clear();
+            this.writeSnapshot();
+        });
+    }
+
+    /**
+     * Appends what changed since the previous autosave. Call after every turn.
+     */
+    public void saveTurn() {
+        if(this.finished) {
+            return;
+        }
+
+        BitSet changedPlayers = this.gameState.takeChangedPlayers();
+        BitSet flippedCards = this.getFlippedCards();
+
+        BitSet changedCards = (BitSet) flippedCards.clone();
+        changedCards.xor(this.savedFlippedCards);
+        this.savedFlippedCards = flippedCards;
+
+        ByteBuffer delta = ByteBuffer.allocate(4 + 1 + 2 + 14 * changedPlayers.cardinality() + 4 + 4 * changedCards.cardinality());
+        delta.putInt(this.gameState.getTurnController().getTurnNumber());
+        delta.put((byte) this.gameState.getTurnController().getTurnPlayerID());
+
+        delta.putShort((short) changedPlayers.cardinality());
+        for(int i = changedPlayers.nextSetBit(0); i >= 0; i = changedPlayers.nextSetBit(i + 1)) {
+            delta.put((byte) i);
+            delta.putInt(this.gameState.getCaveTileID(i));
+            delta.putInt(this.gameState.getCurrentTileID(i));
+            delta.put(this.gameState.getCurrentTileCode(i));
+            delta.putInt(this.gameState.getTilesLeft(i));
+        }
+
+        delta.putInt(changedCards.cardinality());
+        for(int i = changedCards.nextSetBit(0); i >= 0; i = changedCards.nextSetBit(i + 1)) {
+            delta.putInt(i);
+        }
+
+        boolean compact = ++this.deltaCount >= AutoSaver.SNAPSHOT_INTERVAL;
+        if(compact) {
+            this.deltaCount = 0;
+        }
+
+        byte[] deltaBytes = delta.array();
+        AutoSaver.AUTOSAVE_EXECUTOR.execute(() -> {
+            this.deltas.add(deltaBytes);
+
+            if(compact) {
+                for(byte[] pendingDelta : this.deltas) {
+                    AutoSaver.applyDelta(this.snapshot, ByteBuffer.wrap(pendingDelta));
+                }
+                this.deltas.clear();
+                this.writeSnapshot();
+            } else {
+                try {
+                    Files.write(this.autosavePath, deltaBytes, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                } catch(IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        });
+    }
+
+    /**
+     * Deletes the autosave, once the game was won or left. Nothing more is saved after.
+     */
+    public void finish() {
+        this.finished = true;
+        AutoSaver.AUTOSAVE_EXECUTOR.execute(() -> {
+            try {
+                Files.deleteIfExists(this.autosavePath);
+            } catch(IOException e) {
+                e.printStackTrace();
+            }
+        });
+    }
+
+    /**
+     * Waits until every autosave write requested so far is done, so a finished autosave is deleted before the application exits.
+     */
+    public static void awaitWrites() {
+        try {
+            AutoSaver.AUTOSAVE_EXECUTOR.submit(() -> { }).get();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch(ExecutionException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private BitSet getFlippedCards() {
+        BitSet flippedCards = new BitSet(this.gameState.getDragonCardCount());
+        for(int i = 0; i < this.gameState.getDragonCardCount(); i++) {
+            if(this.gameState.getDragonCard(i).isFlipped()) {
+                flippedCards.set(i);
+            }
+        }
+        return flippedCards;
+    }
+
+    /**
+     * Rewrites the autosave file with the current snapshot and no deltas. Runs on the background thread.
+     */
+    private void writeSnapshot() {
+        try {
+            ByteBuffer encoded = this.snapshotCodec.encode(this.snapshot);
+
+            ByteBuffer file = ByteBuffer.allocate(AutoSaver.HEADER_SIZE + encoded.remaining());
+            file.putInt(AutoSaver.MAGIC);
+            file.putShort(AutoSaver.VERSION);
+            file.putInt(encoded.remaining());
+            file.put(encoded);
+            file.flip();
+
+            SaveHandler.writeAtomically(this.autosavePath, file);
+        } catch(IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Loads an autosave: its snapshot with every complete delta applied.
+     *
+     * @param autosavePath the autosave file
+     * @return the properties of the game, as a save would hold them, or null if there is no readable autosave
+     */
+    public static Map<String, String> load(Path autosavePath) {
+        if(!Files.exists(autosavePath)) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = SaveHandler.readFile(autosavePath);
+            if(buffer.remaining() < AutoSaver.HEADER_SIZE || buffer.getInt() != AutoSaver.MAGIC || buffer.getShort() != AutoSaver.VERSION) {
+                return null;
+            }
+
+            int snapshotLength = buffer.getInt();
+            Map<String, String> properties = new BinarySaveCodec().decode(buffer.slice(buffer.position(), snapshotLength));
+            buffer.position(buffer.position() + snapshotLength);
+
+            try {
+                while(buffer.hasRemaining()) {
+                    // Applied to a copy, so a torn last delta leaves the previous turn intact
+                    Map<String, String> next = new LinkedHashMap<String, String>(properties);
+                    AutoSaver.applyDelta(next, buffer);
+                    properties = next;
+                }
+            } catch(BufferUnderflowException e) {
+                // Killed mid-write, the last delta is incomplete
+            }
+            return properties;
+        } catch(IOException | RuntimeException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Applies one delta to the properties of a game.
+     *
+     * @param properties the properties of the game before the delta
+     * @param delta the delta, read from its position
+     */
+    private static void applyDelta(Map<String, String> properties, ByteBuffer delta) {
+        properties.put("turnNumber", String.valueOf(delta.getInt()));
+        properties.put("currentPlayer", String.valueOf(delta.get() + 1));
+
+        int changedPlayerCount = delta.getShort();
+        for(int i = 0; i < changedPlayerCount; i++) {
+            String prefix = "player" + (delta.get() + 1);
+            properties.put(prefix + ".caveTileID", String.valueOf(delta.getInt()));
+            properties.put(prefix + ".currentTileID", String.valueOf(delta.getInt()));
+            properties.put(prefix + ".currentTileType", String.valueOf(GameState.decode(delta.get())));
+            properties.put(prefix + ".tilesLeft", String.valueOf(delta.getInt()));
+        }
+
+        int changedCardCount = delta.getInt();
+        for(int i = 0; i < changedCardCount; i++) {
+            String key = "dragonCard" + (delta.getInt() + 1) + ".flipped";
+            properties.put(key, String.valueOf(!Boolean.parseBoolean(properties.get(key))));
+        }
+    }
+}
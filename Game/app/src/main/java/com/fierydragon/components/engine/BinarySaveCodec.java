@@ -0,0 +1,239 @@
+package com.fierydragon.components.engine;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fierydragon.components.enums.CardType;
+import com.fierydragon.core.interfaces.ISaveCodec;
+import com.fierydragon.core.interfaces.ISaveWriter;
+import com.fierydragon.core.interfaces.IStateSaveable;
+
+/**
+ * Compact binary save format for the properties written by GameState.invokeSave.
+ *
+ * Layout (big endian), version 3:
+ * magic "FDSV" (int), schema version (short),
+ * player count (byte), current player (byte), turn number (int), seed (long), volcano card count (short), dragon card count (short),
+ * volcano cards (3 tile type bytes each), caves (1 type byte per player),
+ * players (cave tile ID int, current tile ID int, current tile type byte, tiles left int),
+ * dragon cards (type byte, value byte, flipped byte).
+ *
+ * Older saves are still read: version 2 has no seed, version 1 neither seed nor turn number.
+ *
+ * Card types are stored as their tile codes (GameState.encode), so reordering CardType needs a new schema version.
+ *
+ * Everything after the version is what GameState.writeState writes, so writeSave produces the same file without a property map.
+ */
+public class BinarySaveCodec implements ISaveCodec {
+    public static final int MAGIC = 0x46445356;
+    public static final short VERSION = 3;
+
+    private static final int HEADER_SIZE_V1 = 4 + 2 + 1 + 1 + 2 + 2;
+    private static final int HEADER_SIZE = HEADER_SIZE_V1 + 4 + 8;
+    private static final int PLAYER_SIZE = 4 + 4 + 1 + 4;
+    private static final int DRAGON_CARD_SIZE = 3;
+
+    @Override
+    public ByteBuffer encode(Map<String, String> properties) throws IOException {
+        int playerCount = BinarySaveCodec.getInt(properties, "playerCount", Byte.MAX_VALUE);
+        int currentPlayer = BinarySaveCodec.getInt(properties, "currentPlayer", Byte.MAX_VALUE);
+        int turnNumber = BinarySaveCodec.getInt(properties, "turnNumber", Integer.MAX_VALUE);
+        long seed = BinarySaveCodec.getLong(properties, "seed");
+        int volcanoCardCount = BinarySaveCodec.getInt(properties, "volcanoCardCount", Short.MAX_VALUE);
+        int cardCount = BinarySaveCodec.getInt(properties, "cardCount", Short.MAX_VALUE);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + (volcanoCardCount * 3) + (playerCount * (1 + PLAYER_SIZE)) + (cardCount * DRAGON_CARD_SIZE));
+
+        // ===============
+        // Header
+        buffer.putInt(BinarySaveCodec.MAGIC);
+        buffer.putShort(BinarySaveCodec.VERSION);
+        buffer.put((byte) playerCount);
+        buffer.put((byte) currentPlayer);
+        buffer.putInt(turnNumber);
+        buffer.putLong(seed);
+        buffer.putShort((short) volcanoCardCount);
+        buffer.putShort((short) cardCount);
+        // ===============
+
+        for(int i = 1; i <= volcanoCardCount; i++) {
+            for(int j = 1; j <= 3; j++) {
+                buffer.put(BinarySaveCodec.getCardType(properties, "volcanoCard" + i + ".tile" + j));
+            }
+        }
+
+        for(int i = 1; i <= playerCount; i++) {
+            buffer.put(BinarySaveCodec.getCardType(properties, "cave" + i));
+        }
+
+        for(int i = 1; i <= playerCount; i++) {
+            String prefix = "player" + i;
+            buffer.putInt(BinarySaveCodec.getInt(properties, prefix + ".caveTileID", Integer.MAX_VALUE));
+            buffer.putInt(BinarySaveCodec.getInt(properties, prefix + ".currentTileID", Integer.MAX_VALUE));
+            buffer.put(BinarySaveCodec.getCardType(properties, prefix + ".currentTileType"));
+            buffer.putInt(BinarySaveCodec.getInt(properties, prefix + ".tilesLeft", Integer.MAX_VALUE));
+        }
+
+        for(int i = 1; i <= cardCount; i++) {
+            String prefix = "dragonCard" + i;
+            buffer.put(BinarySaveCodec.getCardType(properties, prefix + ".cardType"));
+            buffer.put((byte) BinarySaveCodec.getInt(properties, prefix + ".cardValue", Byte.MAX_VALUE));
+            buffer.put((byte) (Boolean.parseBoolean(properties.get(prefix + ".flipped")) ? 1 : 0));
+        }
+
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Writes a save of the current version straight from the streaming path, without building the property map.
+     *
+     * @param saveable the game to save, writing the fields after the version as GameState.writeState does
+     * @param writer the writer to write the save to
+     */
+    public static void writeSave(IStateSaveable saveable, ISaveWriter writer) {
+        writer.writeInt(BinarySaveCodec.MAGIC);
+        writer.writeShort(BinarySaveCodec.VERSION);
+        saveable.writeState(writer);
+    }
+
+    @Override
+    public Map<String, String> decode(ByteBuffer buffer) throws IOException {
+        if(!this.canDecode(buffer)) {
+            throw new IOException("Not a binary save file");
+        }
+
+        try {
+            buffer.getInt();
+            short version = buffer.getShort();
+            if(version < 1 || version > BinarySaveCodec.VERSION) {
+                throw new IOException("Unsupported save version " + version);
+            }
+
+            int playerCount = buffer.get();
+            int currentPlayer = buffer.get();
+            int turnNumber = version >= 2 ? buffer.getInt() : -1;
+            String seed = version >= 3 ? String.valueOf(buffer.getLong()) : null;
+            int volcanoCardCount = buffer.getShort();
+            int cardCount = buffer.getShort();
+
+            // Same keys and order as GameState.invokeSave
+            Map<String, String> properties = new LinkedHashMap<String, String>(2 * (6 + (volcanoCardCount * 3) + (playerCount * 5) + (cardCount * 3)));
+            properties.put("playerCount", String.valueOf(playerCount));
+            properties.put("currentPlayer", String.valueOf(currentPlayer));
+            if(turnNumber != -1) {
+                properties.put("turnNumber", String.valueOf(turnNumber));
+            }
+            if(seed != null) {
+                properties.put("seed", seed);
+            }
+            properties.put("volcanoCardCount", String.valueOf(volcanoCardCount));
+            properties.put("cardCount", String.valueOf(cardCount));
+
+            for(int i = 1; i <= volcanoCardCount; i++) {
+                for(int j = 1; j <= 3; j++) {
+                    properties.put("volcanoCard" + i + ".tile" + j, String.valueOf(GameState.decode(buffer.get())));
+                }
+            }
+
+            for(int i = 1; i <= playerCount; i++) {
+                properties.put("cave" + i, String.valueOf(GameState.decode(buffer.get())));
+            }
+
+            for(int i = 1; i <= playerCount; i++) {
+                String prefix = "player" + i;
+                properties.put(prefix + ".caveTileID", String.valueOf(buffer.getInt()));
+                properties.put(prefix + ".currentTileID", String.valueOf(buffer.getInt()));
+                properties.put(prefix + ".currentTileType", String.valueOf(GameState.decode(buffer.get())));
+                properties.put(prefix + ".tilesLeft", String.valueOf(buffer.getInt()));
+            }
+
+            for(int i = 1; i <= cardCount; i++) {
+                String prefix = "dragonCard" + i;
+                properties.put(prefix + ".cardType", String.valueOf(GameState.decode(buffer.get())));
+                properties.put(prefix + ".cardValue", String.valueOf(buffer.get()));
+                properties.put(prefix + ".flipped", String.valueOf(buffer.get() != 0));
+            }
+
+            return properties;
+        } catch(BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Truncated or corrupted save file", e);
+        }
+    }
+
+    @Override
+    public boolean canDecode(ByteBuffer buffer) {
+        return buffer.remaining() >= HEADER_SIZE_V1 && buffer.getInt(buffer.position()) == BinarySaveCodec.MAGIC;
+    }
+
+    @Override
+    public String getFileExtension() {
+        return ".dat";
+    }
+
+    /**
+     * Reads an integer property, checking that it fits the field it is stored in.
+     *
+     * @param properties the saved properties
+     * @param key the property key
+     * @param maxValue the largest value the field can hold
+     * @return the property value
+     * @throws IOException if the property is missing, not a number or too large
+     */
+    private static int getInt(Map<String, String> properties, String key, int maxValue) throws IOException {
+        try {
+            int value = Integer.parseInt(properties.get(key));
+
+            if(value > maxValue || value < -maxValue - 1) {
+                throw new IOException("Save property " + key + " out of range: " + value);
+            }
+            return value;
+        } catch(NumberFormatException e) {
+            throw new IOException("Missing or invalid save property " + key, e);
+        }
+    }
+
+    /**
+     * Reads a long property.
+     *
+     * @param properties the saved properties
+     * @param key the property key
+     * @return the property value
+     * @throws IOException if the property is missing or not a number
+     */
+    private static long getLong(Map<String, String> properties, String key) throws IOException {
+        try {
+            return Long.parseLong(properties.get(key));
+        } catch(NumberFormatException e) {
+            throw new IOException("Missing or invalid save property " + key, e);
+        }
+    }
+
+    /**
+     * Reads a card type property as its tile code. "null" (a player who reached its cave) is stored as NO_TILE.
+     *
+     * @param properties the saved properties
+     * @param key the property key
+     * @return the tile code
+     * @throws IOException if the property is missing or not a card type
+     */
+    private static byte getCardType(Map<String, String> properties, String key) throws IOException {
+        String value = properties.get(key);
+
+        if(value == null) {
+            throw new IOException("Missing save property " + key);
+        }
+        if(value.equals("null")) {
+            return GameState.NO_TILE;
+        }
+
+        try {
+            return GameState.encode(CardType.valueOf(value));
+        } catch(IllegalArgumentException e) {
+            throw new IOException("Invalid card type for save property " + key + ": " + value, e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.fierydragon.components.engine;
+
+import java.util.Map;
+
+import com.fierydragon.components.enums.CardType;
+import com.fierydragon.core.interfaces.ISaveReader;
+import com.fierydragon.core.interfaces.ISaveWriter;
+import com.fierydragon.core.interfaces.ISaveable;
+import com.fierydragon.core.interfaces.IStateSaveable;
+
+/**
+ * The DragonCard class holds the type, value and flipped state of a single dragon card (chit).
+ */
+public class DragonCard implements ISaveable, IStateSaveable {
+    private final CardType cardType;
+    private final int cardValue;
+    private boolean flipped;
+
+    /**
+     * Constructs a face down DragonCard.
+     *
+     * @param cardType the type of the card
+     * @param cardValue the value of the card
+     */
+    public DragonCard(CardType cardType, int cardValue) {
+        this.cardType = cardType;
+        this.cardValue = cardValue;
+        this.flipped = false;
+    }
+
+    /**
+     * Gets the type of the card.
+     *
+     * @return the card type
+     */
+    public CardType getCardType() {
+        return this.cardType;
+    }
+
+    /**
+     * Gets the value of the card.
+     *
+     * @return the card value
+     */
+    public int getCardValue() {
+        return this.cardValue;
+    }
+
+    /**
+     * Checks if the card is face up.
+     *
+     * @return true if the card is flipped, false otherwise
+     */
+    public boolean isFlipped() {
+        return this.flipped;
+    }
+
+    /**
+     * Sets whether the card is face up.
+     *
+     * @param flipped true if the card is flipped
+     */
+    public void setFlipped(boolean flipped) {
+        this.flipped = flipped;
+    }
+
+    /**
+     * Saves the card's state into the provided properties map.
+     *
+     * @param properties the map to populate with the card's state
+     * @param prefix a prefix to prepend to property keys (used for nested objects)
+     */
+    @Override
+    public void invokeSave(Map<String, String> properties, String prefix) {
+        properties.put(prefix + ".cardType", this.cardType.toString());
+        properties.put(prefix + ".cardValue", String.valueOf(this.cardValue));
+        properties.put(prefix + ".flipped", String.valueOf(this.flipped));
+    }
+
+    /**
+     * Writes the card as its tile code, value and flipped state.
+     *
+     * @param writer the writer to write the fields to
+     */
+    @Override
+    public void writeState(ISaveWriter writer) {
+        writer.writeByte(GameState.encode(this.cardType));
+        writer.writeByte(this.cardValue);
+        writer.writeBoolean(this.flipped);
+    }
+
+    /**
+     * Restores the flipped state of the card. The saved type and value must be this card's.
+     *
+     * @param reader the reader to read the fields from
+     */
+    @Override
+    public void readState(ISaveReader reader) {
+        CardType savedCardType = GameState.decode(reader.readByte());
+        int savedCardValue = reader.readByte();
+
+        if(savedCardType != this.cardType || savedCardValue != this.cardValue) {
+            throw new IllegalArgumentException("Saved dragon card " + savedCardType + " " + savedCardValue + " does not match " + this.cardType + " " + this.cardValue);
+        }
+        this.flipped = reader.readBoolean();
+    }
+}
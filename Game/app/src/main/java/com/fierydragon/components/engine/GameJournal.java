@@ -0,0 +1,401 @@
+package com.fierydragon.components.engine;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import com.fierydragon.components.TurnController;
+import com.fierydragon.components.enums.CardType;
+import com.fierydragon.components.interfaces.IGameEventListener;
+import com.fierydragon.core.framework.ByteBufferSaveWriter;
+import com.fierydragon.core.framework.SaveHandler;
+
+/**
+ * The GameJournal class records the game in progress so it can be rebuilt after the process was killed.
+ *
+ * The journal file holds a snapshot of the game followed by the events applied since, as written by the
+ * RulesEngine's event listener:
+ * magic "FDJL" (int), version (short), snapshot length (int), snapshot (BinarySaveCodec), then events:
+ * card flipped (1, card index short), card resolved (2, type byte, value byte, move type byte, tile short),
+ * swap card resolved (3, move type byte, other player byte), turn passed (4).
+ *
+ * Events are queued by the game thread and written by a background thread, which writes everything queued
+ * while it was busy with one write and one force (group commit). Once the events pass CHECKPOINT_BYTES, a new
+ * snapshot replaces the whole file, so recovery never replays more than a few hundred bytes.
+ */
+public class GameJournal {
+    public static final GameJournal INSTANCE = new GameJournal(SaveHandler.INSTANCE.getRecoveryJournalPath());
+
+    private static final int MAGIC = 0x46444a4c;
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 2 + 4;
+
+    // Event bytes after which a new snapshot is taken
+    private static final int CHECKPOINT_BYTES = 512;
+
+    private static final byte EVENT_CARD_FLIPPED = 1;
+    private static final byte EVENT_CARD_RESOLVED = 2;
+    private static final byte EVENT_SWAP_CARD_RESOLVED = 3;
+    private static final byte EVENT_TURN_PASSED = 4;
+
+    // Queued instead of a snapshot when the game ended and the journal can go
+    private static final Object END_OF_GAME = new Object();
+
+    private final Path journalPath;
+    private final BinarySaveCodec snapshotCodec;
+
+    // Events (byte[]), snapshots (ByteBuffer) and END_OF_GAME, in game order
+    private final LinkedBlockingQueue<Object> pendingWrites;
+    private Thread writer;
+    private boolean enabled;
+
+    // Writes queued and written so far, so the journal can be waited on before the application exits
+    private long queuedWrites;
+    private long completedWrites;
+
+    // ===============
+    // Game thread state
+    private GameState currentGame;
+    private int eventBytes;
+    private final ByteBufferSaveWriter snapshotWriter;
+    // ===============
+
+    /**
+     * Constructs a GameJournal writing to the given file.
+     *
+     * @param journalPath the journal file
+     */
+    public GameJournal(Path journalPath) {
+        this.journalPath = journalPath;
+        this.snapshotCodec = new BinarySaveCodec();
+        this.pendingWrites = new LinkedBlockingQueue<Object>();
+        this.snapshotWriter = new ByteBufferSaveWriter(1024);
+        this.enabled = true;
+    }
+
+    /**
+     * Sets whether games started from now on are journaled. The journal of a game already journaled is kept.
+     *
+     * @param enabled true to journal games
+     */
+    public synchronized void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Starts journaling a game, replacing the journal of the previous one.
+     *
+     * @param gameState the state of the game, as it is now
+     * @return the listener to give the game's RulesEngine, or null if journaling is disabled
+     */
+    public synchronized IGameEventListener startGame(GameState gameState) {
+        if(!this.enabled) {
+            return null;
+        }
+
+        if(this.writer == null) {
+            this.writer = new Thread(this::writeLoop, "GameJournal");
+            this.writer.setDaemon(true);
+            this.writer.start();
+        }
+
+        this.currentGame = gameState;
+        this.checkpoint();
+
+        return new GameRecorder(gameState);
+    }
+
+    /**
+     * Stops journaling a game that was won or left, and deletes its journal.
+     *
+     * @param gameState the state of the game
+     */
+    public synchronized void endGame(GameState gameState) {
+        if(this.currentGame == gameState) {
+            this.currentGame = null;
+            this.queue(GameJournal.END_OF_GAME);
+        }
+    }
+
+    /**
+     * Waits until everything queued so far is written, so an ended game's journal is deleted before the application exits.
+     */
+    public synchronized void awaitWrites() {
+        try {
+            while(this.completedWrites < this.queuedWrites) {
+                this.wait();
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queues an event of a game, ignored if the game is no longer the one journaled.
+     *
+     * @param gameState the state of the game the event belongs to
+     * @param event the encoded event
+     */
+    private synchronized void record(GameState gameState, byte[] event) {
+        if(this.currentGame != gameState) {
+            return;
+        }
+
+        this.queue(event);
+        this.eventBytes += event.length;
+
+        // Events are reported once applied, so the snapshot already includes this one
+        if(this.eventBytes >= GameJournal.CHECKPOINT_BYTES) {
+            this.checkpoint();
+        }
+    }
+
+    /**
+     * Queues a snapshot of the current game, taken now on the game thread through the streaming save path.
+     */
+    private void checkpoint() {
+        this.snapshotWriter.clear();
+        BinarySaveCodec.writeSave(this.currentGame, this.snapshotWriter);
+
+        this.queue(ByteBuffer.wrap(this.snapshotWriter.toByteArray()));
+        this.eventBytes = 0;
+    }
+
+    private void queue(Object write) {
+        this.pendingWrites.add(write);
+        this.queuedWrites++;
+    }
+
+    // ===============
+    // Writer thread
+    private void writeLoop() {
+        List<Object> batch = new ArrayList<Object>();
+        FileChannel journal = null;
+
+        while(true) {
+            try {
+                batch.add(this.pendingWrites.take());
+            } catch(InterruptedException e) {
+                return;
+            }
+            this.pendingWrites.drainTo(batch);
+
+            // A snapshot or the end of the game makes everything before it obsolete
+            int start = 0;
+            for(int i = batch.size() - 1; i >= 0; i--) {
+                if(!(batch.get(i) instanceof byte[])) {
+                    start = i;
+                    break;
+                }
+            }
+
+            try {
+                Object first = batch.get(start);
+
+                if(first == GameJournal.END_OF_GAME) {
+                    journal = GameJournal.close(journal);
+                    Files.deleteIfExists(this.journalPath);
+                } else if(first instanceof ByteBuffer) {
+                    ByteBuffer snapshot = (ByteBuffer) first;
+
+                    ByteBuffer file = ByteBuffer.allocate(GameJournal.HEADER_SIZE + snapshot.remaining() + GameJournal.countBytes(batch, start + 1));
+                    file.putInt(GameJournal.MAGIC);
+                    file.putShort(GameJournal.VERSION);
+                    file.putInt(snapshot.remaining());
+                    file.put(snapshot);
+                    for(int i = start + 1; i < batch.size(); i++) {
+                        file.put((byte[]) batch.get(i));
+                    }
+                    file.flip();
+
+                    journal = GameJournal.close(journal);
+                    SaveHandler.writeAtomically(this.journalPath, file);
+                    journal = FileChannel.open(this.journalPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                } else if(journal != null) {
+                    ByteBuffer events = ByteBuffer.allocate(GameJournal.countBytes(batch, start));
+                    for(int i = start; i < batch.size(); i++) {
+                        events.put((byte[]) batch.get(i));
+                    }
+                    events.flip();
+
+                    while(events.hasRemaining()) {
+                        journal.write(events);
+                    }
+                    journal.force(false);
+                }
+            } catch(IOException e) {
+                // Events are dropped until the next snapshot rewrites the journal
+                e.printStackTrace();
+                journal = GameJournal.close(journal);
+            }
+
+            synchronized(this) {
+                this.completedWrites += batch.size();
+                this.notifyAll();
+            }
+            batch.clear();
+        }
+    }
+
+    private static int countBytes(List<Object> batch, int start) {
+        int size = 0;
+        for(int i = start; i < batch.size(); i++) {
+            size += ((byte[]) batch.get(i)).length;
+        }
+        return size;
+    }
+
+    private static FileChannel close(FileChannel journal) {
+        if(journal != null) {
+            try {
+                journal.close();
+            } catch(IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return null;
+    }
+    // ===============
+
+    // ===============
+    // Recovery
+    /**
+     * Rebuilds the last game from the journal: its snapshot, then every complete event after it.
+     *
+     * @return the properties of the rebuilt game, as a save would hold them, or null if there is no unfinished game
+     */
+    public Map<String, String> recover() {
+        if(!Files.exists(this.journalPath)) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = SaveHandler.readFile(this.journalPath);
+            if(buffer.remaining() < GameJournal.HEADER_SIZE || buffer.getInt() != GameJournal.MAGIC || buffer.getShort() != GameJournal.VERSION) {
+                return null;
+            }
+
+            int snapshotLength = buffer.getInt();
+            Map<String, String> snapshot = this.snapshotCodec.decode(buffer.slice(buffer.position(), snapshotLength));
+            buffer.position(buffer.position() + snapshotLength);
+
+            TurnController turnController = new TurnController(
+                Integer.parseInt(snapshot.get("currentPlayer")) - 1,
+                Integer.parseInt(snapshot.get("playerCount")),
+                Integer.parseInt(snapshot.getOrDefault("turnNumber", "1"))
+            );
+            GameState gameState = new GameState(turnController, snapshot);
+            GameJournal.replay(new RulesEngine(gameState), buffer);
+
+            for(int i = 0; i < gameState.getPlayerCount(); i++) {
+                if(gameState.getTilesLeft(i) == 0) {
+                    return null;
+                }
+            }
+
+            Map<String, String> properties = new LinkedHashMap<String, String>();
+            gameState.invokeSave(properties, "");
+            return properties;
+        } catch(IOException | RuntimeException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Applies the journaled events to the snapshot, stopping at a torn last event or at an event whose
+     * recorded outcome differs from the replayed one.
+     *
+     * @param rulesEngine the rules engine of the snapshot
+     * @param events the events
+     */
+    private static void replay(RulesEngine rulesEngine, ByteBuffer events) {
+        try {
+            while(events.hasRemaining()) {
+                byte event = events.get();
+
+                if(event == GameJournal.EVENT_CARD_FLIPPED) {
+                    rulesEngine.revealCard(events.getShort());
+                } else if(event == GameJournal.EVENT_CARD_RESOLVED) {
+                    CardType cardType = GameState.decode(events.get());
+                    int cardValue = events.get();
+                    int moveType = events.get();
+                    int toTileID = events.getShort();
+
+                    MoveResult result = rulesEngine.handleCardAction(cardType, cardValue);
+                    if(result.getMoveType().ordinal() != moveType || result.getToTileID() != toTileID) {
+                        return;
+                    }
+                } else if(event == GameJournal.EVENT_SWAP_CARD_RESOLVED) {
+                    int moveType = events.get();
+                    int otherPlayerID = events.get();
+
+                    MoveResult result = rulesEngine.handleSwapCardAction();
+                    if(result.getMoveType().ordinal() != moveType || result.getOtherPlayerID() != otherPlayerID) {
+                        return;
+                    }
+                } else if(event == GameJournal.EVENT_TURN_PASSED) {
+                    rulesEngine.nextTurn();
+                } else {
+                    return;
+                }
+            }
+        } catch(BufferUnderflowException e) {
+            // Killed mid-write, the last event is incomplete
+        }
+    }
+    // ===============
+
+    /**
+     * Encodes the events of one game for the journal.
+     */
+    private class GameRecorder implements IGameEventListener {
+        private final GameState gameState;
+
+        GameRecorder(GameState gameState) {
+            this.gameState = gameState;
+        }
+
+        @Override
+        public void onCardFlipped(int cardID) {
+            ByteBuffer event = ByteBuffer.allocate(3);
+            event.put(GameJournal.EVENT_CARD_FLIPPED);
+            event.putShort((short) cardID);
+            GameJournal.this.record(this.gameState, event.array());
+        }
+
+        @Override
+        public void onCardResolved(CardType cardType, int cardValue, MoveResult result) {
+            ByteBuffer event = ByteBuffer.allocate(6);
+            event.put(GameJournal.EVENT_CARD_RESOLVED);
+            event.put(GameState.encode(cardType));
+            event.put((byte) cardValue);
+            event.put((byte) result.getMoveType().ordinal());
+            event.putShort((short) result.getToTileID());
+            GameJournal.this.record(this.gameState, event.array());
+        }
+
+        @Override
+        public void onSwapCardResolved(MoveResult result) {
+            ByteBuffer event = ByteBuffer.allocate(3);
+            event.put(GameJournal.EVENT_SWAP_CARD_RESOLVED);
+            event.put((byte) result.getMoveType().ordinal());
+            event.put((byte) result.getOtherPlayerID());
+            GameJournal.this.record(this.gameState, event.array());
+        }
+
+        @Override
+        public void onTurnPassed() {
+            GameJournal.this.record(this.gameState, new byte[] { GameJournal.EVENT_TURN_PASSED });
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.fierydragon.components.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import com.fierydragon.components.TurnController;
+import com.fierydragon.components.enums.CardType;
+
+/**
+ * The GameSetup class describes the configuration of a new game (player count, volcano cards, tile and cave
+ * types and the dragon card deck) and creates fresh GameStates from it.
+ *
+ * Every game is shuffled from its own SplittableRandom seeded with the game's seed, so the same seed always
+ * gives the same game and concurrent games never share a generator.
+ */
+public class GameSetup {
+    private final int playerCount;
+    private final int volcanoCardNum;
+    private final ArrayList<CardType> tileTypes;
+    private final ArrayList<CardType> caveTypes;
+    private final ArrayList<DragonCard> dragonCardValues;
+
+    /**
+     * Constructs a GameSetup.
+     *
+     * @param playerCount the number of players in the game
+     * @param volcanoCardNum the number of volcano cards in the game
+     * @param tileTypes the tile types repeated around the board
+     * @param caveTypes the cave types to pick the players' caves from
+     * @param dragonCardValues the dragon card deck, used as a template for every game
+     */
+    public GameSetup(int playerCount, int volcanoCardNum, ArrayList<CardType> tileTypes, ArrayList<CardType> caveTypes, ArrayList<DragonCard> dragonCardValues) {
+        this.playerCount = playerCount;
+        this.volcanoCardNum = volcanoCardNum;
+        this.tileTypes = tileTypes;
+        this.caveTypes = caveTypes;
+        this.dragonCardValues = dragonCardValues;
+    }
+
+    /**
+     * Creates the setup of the basic game mode.
+     *
+     * @param playerCount the number of players in the game
+     * @param volcanoCardNum the number of volcano cards in the game
+     * @return the basic game setup
+     */
+    public static GameSetup basic(int playerCount, int volcanoCardNum) {
+        ArrayList<CardType> tileTypes = new ArrayList<CardType>(Arrays.asList(
+            CardType.SALAMANDER,
+            CardType.BABYDRAGON,
+            CardType.BAT,
+            CardType.SPIDER
+        ));
+        ArrayList<CardType> caveTypes = new ArrayList<CardType>(Arrays.asList(
+            CardType.SALAMANDER,
+            CardType.BABYDRAGON,
+            CardType.BAT,
+            CardType.SPIDER
+        ));
+        ArrayList<DragonCard> dragonCardValues = new ArrayList<DragonCard>(Arrays.asList(
+            new DragonCard(CardType.PIRATE_DRAGON, -1),
+            new DragonCard(CardType.PIRATE_DRAGON, -1),
+            new DragonCard(CardType.PIRATE_DRAGON, -2),
+            new DragonCard(CardType.PIRATE_DRAGON, -2),
+            new DragonCard(CardType.BAT, 1),
+            new DragonCard(CardType.BAT, 2),
+            new DragonCard(CardType.BAT, 3),
+            new DragonCard(CardType.BABYDRAGON, 1),
+            new DragonCard(CardType.BABYDRAGON, 2),
+            new DragonCard(CardType.BABYDRAGON, 3),
+            new DragonCard(CardType.SALAMANDER, 1),
+            new DragonCard(CardType.SALAMANDER, 2),
+            new DragonCard(CardType.SALAMANDER, 3),
+            new DragonCard(CardType.SPIDER, 1),
+            new DragonCard(CardType.SPIDER, 2),
+            new DragonCard(CardType.SPIDER, 3),
+            new DragonCard(CardType.SWAP, 1),
+            new DragonCard(CardType.SWAP, 1)
+        ));
+
+        return new GameSetup(playerCount, volcanoCardNum, tileTypes, caveTypes, dragonCardValues);
+    }
+
+    /**
+     * Creates a new game from this setup with shuffled caves, tiles and dragon cards, from a random seed.
+     *
+     * @param turnController the turn controller managing player turns
+     * @return the new game state
+     */
+    public GameState createGameState(TurnController turnController) {
+        return this.createGameState(turnController, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a new game from this setup with shuffled caves, tiles and dragon cards.
+     *
+     * @param turnController the turn controller managing player turns
+     * @param seed the seed the game is shuffled from
+     * @return the new game state
+     */
+    public GameState createGameState(TurnController turnController, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+
+        ArrayList<CardType> shuffledCaveTypes = new ArrayList<CardType>(this.caveTypes);
+        GameSetup.shuffle(shuffledCaveTypes, random);
+
+        ArrayList<CardType> caveList = new ArrayList<CardType>();
+        for(int i = 0; i < this.playerCount; i++) {
+            caveList.add(shuffledCaveTypes.get(i));
+        }
+
+        ArrayList<DragonCard> dragonCards = new ArrayList<DragonCard>();
+        for(DragonCard dragonCardValue : this.dragonCardValues) {
+            dragonCards.add(new DragonCard(dragonCardValue.getCardType(), dragonCardValue.getCardValue()));
+        }
+
+        return new GameState(turnController, caveList, this.tileTypes, this.volcanoCardNum, dragonCards, seed, random);
+    }
+
+    /**
+     * Shuffles a list in place (Fisher-Yates) with the given generator instead of the global one used by Collections.shuffle.
+     *
+     * @param list the list to shuffle
+     * @param random the random generator
+     */
+    public static <T> void shuffle(List<T> list, RandomGenerator random) {
+        for(int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            list.set(i, list.set(j, list.get(i)));
+        }
+    }
+
+    /**
+     * Gets the number of players in the game.
+     *
+     * @return the player count
+     */
+    public int getPlayerCount() {
+        return this.playerCount;
+    }
+
+    /**
+     * Gets the number of volcano cards in the game.
+     *
+     * @return the volcano card count
+     */
+    public int getVolcanoCardNum() {
+        return this.volcanoCardNum;
+    }
+
+    /**
+     * Gets the dragon card deck template.
+     *
+     * @return the dragon card values
+     */
+    public ArrayList<DragonCard> getDragonCardValues() {
+        return this.dragonCardValues;
+    }
+}
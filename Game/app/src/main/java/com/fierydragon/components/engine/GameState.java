@@ -0,0 +1,655 @@
+package com.fierydragon.components.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+import com.fierydragon.components.TurnController;
+import com.fierydragon.components.enums.CardType;
+import com.fierydragon.components.level.object.VolcanoCard;
+import com.fierydragon.core.interfaces.ISaveReader;
+import com.fierydragon.core.interfaces.ISaveWriter;
+import com.fierydragon.core.interfaces.ISaveable;
+import com.fierydragon.core.interfaces.IStateSaveable;
+
+/**
+ * The GameState class holds the complete state of a game (tiles, caves, volcano cards, players, dragon cards
+ * and tile occupation) without depending on the JavaFX scene graph, so it can be evaluated headless.
+ *
+ * Tiles and players are stored in primitive arrays: tile types are byte coded by CardType ordinal,
+ * each tile stores the ID of the player on it and player fields are kept as one array per field.
+ */
+public class GameState implements ISaveable, IStateSaveable {
+    /** Tile code of the cave position (tile 0), which has no type */
+    public static final byte NO_TILE = -1;
+    /** Occupant value of a tile nobody stands on */
+    public static final int NO_PLAYER = -1;
+
+    private static final CardType[] CARD_TYPES = CardType.values();
+
+    private TurnController turnController;
+    private ArrayList<CardType> caves;
+    private ArrayList<VolcanoCard> volcanoCards;
+    private ArrayList<DragonCard> dragonCards;
+
+    // Indexed by tile ID, tile 0 is the cave position
+    private byte[] tiles;
+    private int[] tileOccupants;
+
+    // Indexed by player ID
+    private int[] caveTileIDs;
+    private int[] currentTileIDs;
+    private byte[] currentTileTypes;
+    private int[] tilesLeft;
+    private int[] currentCaveIDs;
+    // Players whose saved fields changed since takeChangedPlayers was last called
+    private BitSet changedPlayers;
+
+    private int caveSpacing;
+    private long seed;
+
+    /**
+     * Constructs a new GameState with shuffled tiles and dragon cards.
+     *
+     * @param turnController the turn controller managing player turns
+     * @param caves the list of cave card types, one per player
+     * @param tileTypes the list of tile card types
+     * @param volcanoCardNum the number of volcano cards
+     * @param dragonCards the dragon cards of the game, shuffled in place
+     * @param seed the seed of the game, recorded in saves
+     * @param random the random generator seeded with seed, used for the shuffles
+     */
+    public GameState(TurnController turnController, ArrayList<CardType> caves, ArrayList<CardType> tileTypes, int volcanoCardNum, ArrayList<DragonCard> dragonCards, long seed, RandomGenerator random) {
+        this.turnController = turnController;
+        this.seed = seed;
+        this.caves = caves;
+        this.volcanoCards = new ArrayList<VolcanoCard>();
+
+        // ===============
+        // Adding null as first segment (movement starts from cave thus index 0)
+        // segments start from index 1
+        int tileNum = volcanoCardNum * 3;
+
+        ArrayList<CardType> tileDupList = new ArrayList<CardType>();
+        for(int i = 0; i < tileNum; i++) {
+            tileDupList.add(tileTypes.get(i % tileTypes.size()));
+        }
+        GameSetup.shuffle(tileDupList, random);
+        this.setupTiles(tileDupList);
+
+        for(int i = 0; i < tileDupList.size(); i = i + 3) {
+            ArrayList<CardType> tileSet = new ArrayList<CardType>();
+            tileSet.add(tileDupList.get(i));
+            tileSet.add(tileDupList.get(i + 1));
+            tileSet.add(tileDupList.get(i + 2));
+            this.volcanoCards.add(new VolcanoCard(tileSet));
+        }
+        // ===============
+
+        this.caveSpacing = tileNum / this.caves.size();
+
+        this.setupPlayers();
+        for(int i = 0; i < this.caves.size(); i++) {
+            this.caveTileIDs[i] = (i * this.caveSpacing) + 1;
+        }
+
+        this.dragonCards = dragonCards;
+        GameSetup.shuffle(this.dragonCards, random);
+    }
+
+    /**
+     * Constructs a GameState from a map of properties. (Loaded from save file)
+     *
+     * @param turnController the turn controller managing player turns
+     * @param properties the map of properties
+     */
+    public GameState(TurnController turnController, Map<String, String> properties) {
+        this.turnController = turnController;
+        // Saves from before the seed was recorded load with seed 0
+        this.seed = Long.parseLong(properties.getOrDefault("seed", "0"));
+
+        int tileNum = Integer.parseInt(properties.get("volcanoCardCount")) * 3;
+        int caveNum = Integer.parseInt(properties.get("playerCount"));
+        int volcanoCardNum = tileNum / 3;
+
+        // ===============
+        // Setup of the game board caves and tiles based on properties
+        this.caves = new ArrayList<CardType>();
+        for(int i = 0; i < caveNum; i++) {
+            this.caves.add(CardType.valueOf(properties.get("cave" + (i + 1))));
+        }
+
+        this.volcanoCards = new ArrayList<VolcanoCard>();
+        for(int i = 0; i < volcanoCardNum; i++) {
+            ArrayList<CardType> tileSet = new ArrayList<CardType>();
+            tileSet.add(CardType.valueOf(properties.get("volcanoCard" + (i + 1) + ".tile1")));
+            tileSet.add(CardType.valueOf(properties.get("volcanoCard" + (i + 1) + ".tile2")));
+            tileSet.add(CardType.valueOf(properties.get("volcanoCard" + (i + 1) + ".tile3")));
+            this.volcanoCards.add(new VolcanoCard(tileSet));
+        }
+
+        ArrayList<CardType> tileList = new ArrayList<CardType>();
+        for(VolcanoCard volcanoCard : this.volcanoCards) {
+            tileList.addAll(volcanoCard.getTileTypes());
+        }
+        this.setupTiles(tileList);
+        // ===============
+
+        this.caveSpacing = (int) Math.floor((tileNum) / this.caves.size());
+
+        // ===============
+        // Setting up players and dragon cards
+        this.setupPlayers();
+        for(int i = 0; i < this.caves.size(); i++) {
+            this.caveTileIDs[i] = Integer.parseInt(properties.get("player" + (i + 1) + ".caveTileID"));
+            this.setCurrentTileID(i, Integer.parseInt(properties.get("player" + (i + 1) + ".currentTileID")));
+            this.setCurrentTileType(i, CardType.valueOf(properties.get("player" + (i + 1) + ".currentTileType")));
+            this.tilesLeft[i] = Integer.parseInt(properties.get("player" + (i + 1) + ".tilesLeft"));
+        }
+
+        this.dragonCards = new ArrayList<DragonCard>();
+        for(int i = 0; i < Integer.parseInt(properties.get("cardCount")); i++) {
+            CardType cardType = CardType.valueOf(properties.get("dragonCard" + (i + 1) + ".cardType"));
+            int cardValue = Integer.parseInt(properties.get("dragonCard" + (i + 1) + ".cardValue"));
+            boolean cardFlipped = Boolean.parseBoolean(properties.get("dragonCard" + (i + 1) + ".flipped"));
+
+            DragonCard dragonCard = new DragonCard(cardType, cardValue);
+            dragonCard.setFlipped(cardFlipped);
+            this.dragonCards.add(dragonCard);
+        }
+        // ===============
+    }
+
+    /**
+     * Fills the tile arrays, tile 0 being the cave position.
+     *
+     * @param tileList the types of tiles 1 to n in board order
+     */
+    private void setupTiles(ArrayList<CardType> tileList) {
+        this.tiles = new byte[tileList.size() + 1];
+        this.tileOccupants = new int[tileList.size() + 1];
+
+        this.tiles[0] = GameState.NO_TILE;
+        for(int i = 0; i < tileList.size(); i++) {
+            this.tiles[i + 1] = (byte) tileList.get(i).ordinal();
+        }
+        Arrays.fill(this.tileOccupants, GameState.NO_PLAYER);
+    }
+
+    /**
+     * Fills the player arrays with every player starting in its own cave.
+     */
+    private void setupPlayers() {
+        int playerCount = this.caves.size();
+
+        this.caveTileIDs = new int[playerCount];
+        this.currentTileIDs = new int[playerCount];
+        this.currentTileTypes = new byte[playerCount];
+        this.tilesLeft = new int[playerCount];
+        this.currentCaveIDs = new int[playerCount];
+        this.changedPlayers = new BitSet(playerCount);
+
+        for(int i = 0; i < playerCount; i++) {
+            this.currentTileTypes[i] = (byte) this.caves.get(i).ordinal();
+            this.tilesLeft[i] = this.getTileCount() + 1;
+            this.currentCaveIDs[i] = i;
+        }
+    }
+
+    /**
+     * Gets the seed the game was shuffled from. Creating a game from the same GameSetup with this seed gives the same game.
+     *
+     * @return the seed of the game
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Gets the turn controller managing player turns.
+     *
+     * @return the turn controller
+     */
+    public TurnController getTurnController() {
+        return this.turnController;
+    }
+
+    /**
+     * Gets the number of tiles on the board (excluding the cave position 0).
+     *
+     * @return the number of tiles
+     */
+    public int getTileCount() {
+        return this.tiles.length - 1;
+    }
+
+    /**
+     * Gets the type of a tile.
+     *
+     * @param tileID the ID of the tile
+     * @return the type of the tile, null for the cave position 0
+     */
+    public CardType getTileType(int tileID) {
+        return GameState.decode(this.tiles[tileID]);
+    }
+
+    /**
+     * Gets the byte code (CardType ordinal) of a tile.
+     *
+     * @param tileID the ID of the tile
+     * @return the tile code, NO_TILE for the cave position 0
+     */
+    public byte getTileCode(int tileID) {
+        return this.tiles[tileID];
+    }
+
+    /**
+     * Checks if a tile is occupied by a player. Caves (tile 0) are never occupied.
+     *
+     * @param tileID the ID of the tile
+     * @return true if the tile is occupied, false otherwise
+     */
+    public boolean isTileOccupied(int tileID) {
+        return this.tileOccupants[tileID] != GameState.NO_PLAYER;
+    }
+
+    /**
+     * Gets the player standing on a tile.
+     *
+     * @param tileID the ID of the tile
+     * @return the ID of the occupying player, or NO_PLAYER
+     */
+    public int getTileOccupant(int tileID) {
+        return this.tileOccupants[tileID];
+    }
+
+    /**
+     * Gets the number of caves on the board.
+     *
+     * @return the number of caves
+     */
+    public int getCaveCount() {
+        return this.caves.size();
+    }
+
+    /**
+     * Gets the type of a cave.
+     *
+     * @param caveID the ID of the cave
+     * @return the type of the cave
+     */
+    public CardType getCaveType(int caveID) {
+        return this.caves.get(caveID);
+    }
+
+    /**
+     * Gets the number of tiles between two neighbouring caves.
+     *
+     * @return the cave spacing
+     */
+    public int getCaveSpacing() {
+        return this.caveSpacing;
+    }
+
+    /**
+     * Gets the number of players.
+     *
+     * @return the number of players
+     */
+    public int getPlayerCount() {
+        return this.currentTileIDs.length;
+    }
+
+    /**
+     * Gets the current tile ID a player is on.
+     *
+     * @param playerID the ID of the player
+     * @return the ID of the current tile, 0 when the player is in a cave
+     */
+    public int getCurrentTileID(int playerID) {
+        return this.currentTileIDs[playerID];
+    }
+
+    /**
+     * Moves a player to a tile, keeping the tile occupants up to date.
+     *
+     * @param playerID the ID of the player
+     * @param tileID the ID of the tile, 0 to put the player in a cave
+     */
+    public void setCurrentTileID(int playerID, int tileID) {
+        int previousTileID = this.currentTileIDs[playerID];
+
+        if(previousTileID != 0 && this.tileOccupants[previousTileID] == playerID) {
+            this.tileOccupants[previousTileID] = GameState.NO_PLAYER;
+        }
+        if(tileID != 0) {
+            this.tileOccupants[tileID] = playerID;
+        }
+
+        this.currentTileIDs[playerID] = tileID;
+        this.changedPlayers.set(playerID);
+    }
+
+    /**
+     * Gets the type of the tile a player is on.
+     *
+     * @param playerID the ID of the player
+     * @return the type of the current tile
+     */
+    public CardType getCurrentTileType(int playerID) {
+        return GameState.decode(this.currentTileTypes[playerID]);
+    }
+
+    /**
+     * Gets the byte code (CardType ordinal) of the tile a player is on.
+     *
+     * @param playerID the ID of the player
+     * @return the tile code
+     */
+    public byte getCurrentTileCode(int playerID) {
+        return this.currentTileTypes[playerID];
+    }
+
+    /**
+     * Sets the type of the tile a player is on.
+     *
+     * @param playerID the ID of the player
+     * @param tileType the type of the current tile
+     */
+    public void setCurrentTileType(int playerID, CardType tileType) {
+        this.currentTileTypes[playerID] = GameState.encode(tileType);
+        this.changedPlayers.set(playerID);
+    }
+
+    /**
+     * Sets the byte code of the tile a player is on.
+     *
+     * @param playerID the ID of the player
+     * @param tileCode the tile code
+     */
+    public void setCurrentTileCode(int playerID, byte tileCode) {
+        this.currentTileTypes[playerID] = tileCode;
+        this.changedPlayers.set(playerID);
+    }
+
+    /**
+     * Gets the ID of the tile in front of a player's cave.
+     *
+     * @param playerID the ID of the player
+     * @return the ID of the cave tile
+     */
+    public int getCaveTileID(int playerID) {
+        return this.caveTileIDs[playerID];
+    }
+
+    /**
+     * Sets the ID of the tile in front of a player's cave.
+     *
+     * @param playerID the ID of the player
+     * @param caveTileID the ID of the cave tile
+     */
+    public void setCaveTileID(int playerID, int caveTileID) {
+        this.caveTileIDs[playerID] = caveTileID;
+        this.changedPlayers.set(playerID);
+    }
+
+    /**
+     * Gets the ID of the cave a player belongs to.
+     *
+     * @param playerID the ID of the player
+     * @return the cave ID
+     */
+    public int getCurrentCaveID(int playerID) {
+        return this.currentCaveIDs[playerID];
+    }
+
+    /**
+     * Sets the ID of the cave a player belongs to.
+     *
+     * @param playerID the ID of the player
+     * @param currentCaveID the cave ID
+     */
+    public void setCurrentCaveID(int playerID, int currentCaveID) {
+        this.currentCaveIDs[playerID] = currentCaveID;
+    }
+
+    /**
+     * Gets the number of tiles left for a player to move through.
+     *
+     * @param playerID the ID of the player
+     * @return the number of tiles left
+     */
+    public int getTilesLeft(int playerID) {
+        return this.tilesLeft[playerID];
+    }
+
+    /**
+     * Sets the number of tiles left for a player to move through.
+     *
+     * @param playerID the ID of the player
+     * @param tilesLeft the number of tiles left
+     */
+    public void setTilesLeft(int playerID, int tilesLeft) {
+        this.tilesLeft[playerID] = tilesLeft;
+        this.changedPlayers.set(playerID);
+    }
+
+    /**
+     * Returns the players whose saved fields (cave tile, current tile and type, tiles left) changed since
+     * the last call, and starts tracking changes afresh.
+     *
+     * @return the IDs of the changed players
+     */
+    public BitSet takeChangedPlayers() {
+        BitSet changed = (BitSet) this.changedPlayers.clone();
+        this.changedPlayers.clear();
+        return changed;
+    }
+
+    /**
+     * Gets the number of dragon cards.
+     *
+     * @return the number of dragon cards
+     */
+    public int getDragonCardCount() {
+        return this.dragonCards.size();
+    }
+
+    /**
+     * Gets the number of dragon cards that are face down.
+     *
+     * @return the number of face down dragon cards
+     */
+    public int getFaceDownCardCount() {
+        int faceDownCount = 0;
+        for(DragonCard dragonCard : this.dragonCards) {
+            if(!dragonCard.isFlipped()) {
+                faceDownCount++;
+            }
+        }
+        return faceDownCount;
+    }
+
+    /**
+     * Gets a dragon card.
+     *
+     * @param cardID the index of the card
+     * @return the dragon card
+     */
+    public DragonCard getDragonCard(int cardID) {
+        return this.dragonCards.get(cardID);
+    }
+
+    /**
+     * Saves the game state into the provided properties map.
+     *
+     * @param properties the map to populate with the game state
+     * @param prefix a prefix to prepend to property keys (used for nested objects)
+     */
+    @Override
+    public void invokeSave(Map<String, String> properties, String prefix) {
+        properties.put("playerCount", String.valueOf(this.getPlayerCount()));
+        properties.put("currentPlayer", String.valueOf(this.turnController.getTurnPlayerID() + 1));
+        properties.put("turnNumber", String.valueOf(this.turnController.getTurnNumber()));
+        properties.put("seed", String.valueOf(this.seed));
+        properties.put("volcanoCardCount", String.valueOf(this.volcanoCards.size()));
+        properties.put("cardCount", String.valueOf(this.dragonCards.size()));
+
+        for(int i = 0; i < this.volcanoCards.size(); i++) {
+            this.volcanoCards.get(i).invokeSave(properties, "volcanoCard" + (i + 1));
+        }
+
+        for(int i = 0; i < this.caves.size(); i++) {
+            String key = "cave" + (i + 1);
+            properties.put(key, this.caves.get(i).toString());
+        }
+
+        for(int i = 0; i < this.getPlayerCount(); i++) {
+            this.invokePlayerSave(i, properties, "player" + (i + 1));
+        }
+
+        for(int i = 0; i < this.dragonCards.size(); i++) {
+            this.dragonCards.get(i).invokeSave(properties, "dragonCard" + (i + 1));
+        }
+    }
+
+    /**
+     * Saves a player's state into the provided properties map.
+     *
+     * @param playerID the ID of the player
+     * @param properties the map to populate with the player's state
+     * @param prefix a prefix to prepend to property keys
+     */
+    public void invokePlayerSave(int playerID, Map<String, String> properties, String prefix) {
+        properties.put(prefix + ".caveTileID", String.valueOf(this.caveTileIDs[playerID]));
+        properties.put(prefix + ".currentTileID", String.valueOf(this.currentTileIDs[playerID]));
+        properties.put(prefix + ".currentTileType", String.valueOf(this.getCurrentTileType(playerID)));
+        properties.put(prefix + ".tilesLeft", String.valueOf(this.tilesLeft[playerID]));
+    }
+
+    /**
+     * Writes the game state in the field order of a BinarySaveCodec save after its magic and version:
+     * counts and turn, volcano card tiles, caves, players, then dragon cards.
+     *
+     * @param writer the writer to write the fields to
+     */
+    @Override
+    public void writeState(ISaveWriter writer) {
+        writer.writeByte(this.getPlayerCount());
+        writer.writeByte(this.turnController.getTurnPlayerID() + 1);
+        writer.writeInt(this.turnController.getTurnNumber());
+        writer.writeLong(this.seed);
+        writer.writeShort(this.volcanoCards.size());
+        writer.writeShort(this.dragonCards.size());
+
+        for(int i = 0; i < this.volcanoCards.size(); i++) {
+            this.volcanoCards.get(i).writeState(writer);
+        }
+
+        for(int i = 0; i < this.caves.size(); i++) {
+            writer.writeByte(GameState.encode(this.caves.get(i)));
+        }
+
+        for(int i = 0; i < this.getPlayerCount(); i++) {
+            this.writePlayerState(i, writer);
+        }
+
+        for(int i = 0; i < this.dragonCards.size(); i++) {
+            this.dragonCards.get(i).writeState(writer);
+        }
+    }
+
+    /**
+     * Restores a game state written by writeState into this one. Both games must have the same number of
+     * players, volcano cards and dragon cards.
+     *
+     * @param reader the reader to read the fields from
+     */
+    @Override
+    public void readState(ISaveReader reader) {
+        int playerCount = reader.readByte();
+        int currentPlayer = reader.readByte();
+        int turnNumber = reader.readInt();
+        long seed = reader.readLong();
+        int volcanoCardCount = reader.readShort();
+        int cardCount = reader.readShort();
+
+        if(playerCount != this.getPlayerCount() || volcanoCardCount != this.volcanoCards.size() || cardCount != this.dragonCards.size()) {
+            throw new IllegalArgumentException("Saved game has " + playerCount + " players, " + volcanoCardCount + " volcano cards and " + cardCount
+                + " dragon cards, expected " + this.getPlayerCount() + ", " + this.volcanoCards.size() + " and " + this.dragonCards.size());
+        }
+
+        this.turnController.setTurn(currentPlayer - 1, turnNumber);
+        this.seed = seed;
+
+        int tileID = 1;
+        for(VolcanoCard volcanoCard : this.volcanoCards) {
+            volcanoCard.readState(reader);
+
+            for(CardType tileType : volcanoCard.getTileTypes()) {
+                this.tiles[tileID++] = GameState.encode(tileType);
+            }
+        }
+
+        for(int i = 0; i < this.caves.size(); i++) {
+            this.caves.set(i, GameState.decode(reader.readByte()));
+        }
+
+        Arrays.fill(this.tileOccupants, GameState.NO_PLAYER);
+        for(int i = 0; i < this.getPlayerCount(); i++) {
+            this.readPlayerState(i, reader);
+        }
+
+        for(int i = 0; i < this.dragonCards.size(); i++) {
+            this.dragonCards.get(i).readState(reader);
+        }
+    }
+
+    /**
+     * Writes a player's saved fields: cave tile, current tile, current tile code and tiles left.
+     *
+     * @param playerID the ID of the player
+     * @param writer the writer to write the fields to
+     */
+    public void writePlayerState(int playerID, ISaveWriter writer) {
+        writer.writeInt(this.caveTileIDs[playerID]);
+        writer.writeInt(this.currentTileIDs[playerID]);
+        writer.writeByte(this.currentTileTypes[playerID]);
+        writer.writeInt(this.tilesLeft[playerID]);
+    }
+
+    /**
+     * Restores a player's saved fields written by writePlayerState.
+     *
+     * @param playerID the ID of the player
+     * @param reader the reader to read the fields from
+     */
+    public void readPlayerState(int playerID, ISaveReader reader) {
+        this.setCaveTileID(playerID, reader.readInt());
+        this.setCurrentTileID(playerID, reader.readInt());
+        this.setCurrentTileCode(playerID, reader.readByte());
+        this.setTilesLeft(playerID, reader.readInt());
+    }
+
+    /**
+     * Encodes a card type as its byte tile code.
+     *
+     * @param cardType the card type, may be null
+     * @return the tile code, NO_TILE for null
+     */
+    public static byte encode(CardType cardType) {
+        return cardType == null ? GameState.NO_TILE : (byte) cardType.ordinal();
+    }
+
+    /**
+     * Decodes a byte tile code to its card type.
+     *
+     * @param tileCode the tile code
+     * @return the card type, null for NO_TILE
+     */
+    public static CardType decode(byte tileCode) {
+        return tileCode == GameState.NO_TILE ? null : GameState.CARD_TYPES[tileCode];
+    }
+}
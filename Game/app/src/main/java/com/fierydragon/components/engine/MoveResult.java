@@ -0,0 +1,192 @@
+package com.fierydragon.components.engine;
+
+import com.fierydragon.components.enums.MoveType;
+
+/**
+ * The MoveResult class describes what the rules engine did when resolving a card,
+ * with enough detail for a renderer to animate the move.
+ */
+public class MoveResult {
+    private MoveType moveType;
+    private final int playerID;
+    private final int fromTileID;
+    private int toTileID;
+    private int otherPlayerID;
+
+    // Movement path description (only used by MOVE and SWAP_BACK)
+    private boolean exitedCave;
+    private int arcStartTileID;
+    private int arcEndTileID;
+    private boolean forward;
+    private boolean enteredCave;
+
+    private boolean turnEnded;
+    private boolean win;
+
+    /**
+     * Constructs a MoveResult for the given player with no movement.
+     *
+     * @param playerID the ID of the player who played the card
+     * @param fromTileID the tile the player was on before the card was played
+     */
+    MoveResult(int playerID, int fromTileID) {
+        this.moveType = MoveType.NONE;
+        this.playerID = playerID;
+        this.fromTileID = fromTileID;
+        this.toTileID = fromTileID;
+        this.otherPlayerID = -1;
+        this.arcStartTileID = -1;
+        this.arcEndTileID = -1;
+    }
+
+    void setMoveType(MoveType moveType) {
+        this.moveType = moveType;
+    }
+
+    void setToTileID(int toTileID) {
+        this.toTileID = toTileID;
+    }
+
+    void setOtherPlayerID(int otherPlayerID) {
+        this.otherPlayerID = otherPlayerID;
+    }
+
+    void setExitedCave(boolean exitedCave) {
+        this.exitedCave = exitedCave;
+    }
+
+    void setArc(int arcStartTileID, int arcEndTileID, boolean forward) {
+        this.arcStartTileID = arcStartTileID;
+        this.arcEndTileID = arcEndTileID;
+        this.forward = forward;
+    }
+
+    void setEnteredCave(boolean enteredCave) {
+        this.enteredCave = enteredCave;
+    }
+
+    void setTurnEnded(boolean turnEnded) {
+        this.turnEnded = turnEnded;
+    }
+
+    void setWin(boolean win) {
+        this.win = win;
+    }
+
+    /**
+     * Gets the outcome of the card.
+     *
+     * @return the move type
+     */
+    public MoveType getMoveType() {
+        return this.moveType;
+    }
+
+    /**
+     * Gets the ID of the player who played the card.
+     *
+     * @return the player ID
+     */
+    public int getPlayerID() {
+        return this.playerID;
+    }
+
+    /**
+     * Gets the tile the player was on before the card was played.
+     *
+     * @return the tile ID, 0 when the player was in a cave
+     */
+    public int getFromTileID() {
+        return this.fromTileID;
+    }
+
+    /**
+     * Gets the tile the player is on after the card was played.
+     *
+     * @return the tile ID, 0 when the player ended in a cave
+     */
+    public int getToTileID() {
+        return this.toTileID;
+    }
+
+    /**
+     * Gets the ID of the other player involved in a swap.
+     *
+     * @return the other player ID, or -1 if no other player was involved
+     */
+    public int getOtherPlayerID() {
+        return this.otherPlayerID;
+    }
+
+    /**
+     * Checks if the move started by leaving the player's cave.
+     *
+     * @return true if the player left its cave
+     */
+    public boolean hasExitedCave() {
+        return this.exitedCave;
+    }
+
+    /**
+     * Checks if the move travelled along the board.
+     *
+     * @return true if the move has an arc segment
+     */
+    public boolean hasArc() {
+        return this.arcEndTileID != -1;
+    }
+
+    /**
+     * Gets the tile the arc segment starts at.
+     *
+     * @return the tile ID, or -1 if there is no arc
+     */
+    public int getArcStartTileID() {
+        return this.arcStartTileID;
+    }
+
+    /**
+     * Gets the tile the arc segment ends at.
+     *
+     * @return the tile ID, or -1 if there is no arc
+     */
+    public int getArcEndTileID() {
+        return this.arcEndTileID;
+    }
+
+    /**
+     * Checks if the arc segment goes forward (clockwise) along the board.
+     *
+     * @return true if moving forward, false if moving backward
+     */
+    public boolean isForward() {
+        return this.forward;
+    }
+
+    /**
+     * Checks if the move ended by entering the player's cave.
+     *
+     * @return true if the player entered its cave
+     */
+    public boolean hasEnteredCave() {
+        return this.enteredCave;
+    }
+
+    /**
+     * Checks if the card ended the current player's turn.
+     *
+     * @return true if the turn passed to the next player
+     */
+    public boolean isTurnEnded() {
+        return this.turnEnded;
+    }
+
+    /**
+     * Checks if the move won the game.
+     *
+     * @return true if the player has no tiles left
+     */
+    public boolean isWin() {
+        return this.win;
+    }
+}
@@ -0,0 +1,328 @@
+package com.fierydragon.components.engine;
+
+import com.fierydragon.components.enums.CardType;
+import com.fierydragon.components.enums.MoveType;
+import com.fierydragon.components.interfaces.IGameEventListener;
+
+/**
+ * The RulesEngine class applies the movement rules of the game to a GameState.
+ *
+ * It has no dependency on the JavaFX scene graph: every card is resolved immediately and the
+ * outcome is described by a MoveResult, which the GameBoard uses to animate the move.
+ *
+ * Every change is reported to the event listener, if any, once it has been applied.
+ */
+public class RulesEngine {
+    private final GameState gameState;
+    private IGameEventListener eventListener;
+
+    /**
+     * Constructs a RulesEngine operating on the given game state.
+     *
+     * @param gameState the game state to apply moves to
+     */
+    public RulesEngine(GameState gameState) {
+        this.gameState = gameState;
+    }
+
+    /**
+     * Gets the game state this engine operates on.
+     *
+     * @return the game state
+     */
+    public GameState getGameState() {
+        return this.gameState;
+    }
+
+    /**
+     * Sets the listener told about every change to the game state.
+     *
+     * @param eventListener the listener, or null for none
+     */
+    public void setEventListener(IGameEventListener eventListener) {
+        this.eventListener = eventListener;
+    }
+
+    /**
+     * Turns a dragon card face up without resolving it (the GameBoard resolves it once its flip animation ends).
+     *
+     * @param cardID the index of the card
+     */
+    public void revealCard(int cardID) {
+        this.gameState.getDragonCard(cardID).setFlipped(true);
+
+        if(this.eventListener != null) {
+            this.eventListener.onCardFlipped(cardID);
+        }
+    }
+
+    /**
+     * Flips a dragon card for the current player and resolves it.
+     *
+     * @param cardID the index of the card to flip
+     * @return the result of the card
+     * @throws IllegalStateException if the card is already flipped
+     */
+    public MoveResult flipCard(int cardID) {
+        DragonCard card = this.gameState.getDragonCard(cardID);
+
+        if(card.isFlipped()) {
+            throw new IllegalStateException("Dragon card " + cardID + " is already flipped");
+        }
+        this.revealCard(cardID);
+
+        if(card.getCardType() == CardType.SWAP) {
+            return this.handleSwapCardAction();
+        }
+        return this.handleCardAction(card.getCardType(), card.getCardValue());
+    }
+
+    /**
+     * Passes the turn to the next player and turns every dragon card face down.
+     */
+    public void nextTurn() {
+        this.passTurn();
+
+        if(this.eventListener != null) {
+            this.eventListener.onTurnPassed();
+        }
+    }
+
+    /**
+     * Passes the turn to the next player and turns every dragon card face down, as part of resolving a card.
+     */
+    private void passTurn() {
+        this.gameState.getTurnController().nextTurn();
+
+        for(int i = 0; i < this.gameState.getDragonCardCount(); i++) {
+            this.gameState.getDragonCard(i).setFlipped(false);
+        }
+    }
+
+    /**
+     * Resolves a flipped movement card for the current player.
+     *
+     * @param cardType type of the card that was flipped
+     * @param cardValue integer value of the card that was flipped
+     * @return the result of the card
+     */
+    public MoveResult handleCardAction(CardType cardType, int cardValue) {
+        MoveResult result = this.resolveCardAction(cardType, cardValue);
+
+        if(this.eventListener != null) {
+            this.eventListener.onCardResolved(cardType, cardValue, result);
+        }
+        return result;
+    }
+
+    private MoveResult resolveCardAction(CardType cardType, int cardValue) {
+        GameState state = this.gameState;
+        int playerID = state.getTurnController().getTurnPlayerID();
+        int tileCount = state.getTileCount();
+        int tilesLeft = state.getTilesLeft(playerID);
+        int previousTileID = state.getCurrentTileID(playerID);
+        int currentTileID = previousTileID;
+
+        MoveResult result = new MoveResult(playerID, previousTileID);
+
+        if (GameState.encode(cardType) == state.getCurrentTileCode(playerID) && cardValue <= tilesLeft) {
+            if (currentTileID == 0 && cardValue > 0) {
+                currentTileID = state.getCaveTileID(playerID);
+                result.setExitedCave(true);
+
+                cardValue--;
+            }
+
+            if (cardValue > 0) {
+                int arcStartTileID = currentTileID;
+
+                if (cardValue == tilesLeft) {
+                    // Last step of the card goes into the player's own cave
+                    cardValue--;
+                    currentTileID += cardValue;
+
+                    if (currentTileID > tileCount) {
+                        currentTileID -= tileCount;
+                    }
+
+                    result.setArc(arcStartTileID, currentTileID, true);
+                    result.setEnteredCave(true);
+
+                    cardValue++;
+                    currentTileID = 0;
+                } else {
+                    currentTileID += cardValue;
+
+                    if (currentTileID > tileCount) {
+                        currentTileID -= tileCount;
+                    }
+
+                    result.setArc(arcStartTileID, currentTileID, true);
+                }
+            }
+        }
+
+        if (cardValue < 0 && currentTileID > 0) {
+            int arcStartTileID = currentTileID;
+
+            currentTileID += cardValue;
+
+            if (currentTileID <= 0) {
+                currentTileID += tileCount;
+            }
+
+            result.setArc(arcStartTileID, currentTileID, false);
+        }
+
+        if (!result.hasExitedCave() && !result.hasArc()) {
+            result.setMoveType(MoveType.PASS);
+            this.endTurn(result);
+            return result;
+        }
+
+        int occupyingPlayerID = state.getTileOccupant(currentTileID);
+
+        if (occupyingPlayerID != GameState.NO_PLAYER) {
+            if (previousTileID == 0) {
+                result.setMoveType(MoveType.BLOCKED);
+                this.endTurn(result);
+                return result;
+            }
+
+            // Swap back: the occupying player takes the tile the current player came from
+            state.setCurrentTileID(playerID, currentTileID);
+            state.setCurrentTileCode(playerID, state.getTileCode(currentTileID));
+            state.setTilesLeft(playerID, tilesLeft - cardValue);
+
+            state.setCurrentTileID(occupyingPlayerID, previousTileID);
+            state.setCurrentTileCode(occupyingPlayerID, state.getTileCode(previousTileID));
+            state.setTilesLeft(occupyingPlayerID, state.getTilesLeft(occupyingPlayerID) + cardValue);
+
+            result.setMoveType(MoveType.SWAP_BACK);
+            result.setToTileID(currentTileID);
+            result.setOtherPlayerID(occupyingPlayerID);
+            result.setWin(state.getTilesLeft(playerID) == 0);
+            this.endTurn(result);
+        } else {
+            state.setCurrentTileID(playerID, currentTileID);
+            state.setCurrentTileCode(playerID, state.getTileCode(currentTileID));
+            state.setTilesLeft(playerID, tilesLeft - cardValue);
+
+            result.setMoveType(MoveType.MOVE);
+            result.setToTileID(currentTileID);
+            result.setWin(state.getTilesLeft(playerID) == 0);
+        }
+
+        return result;
+    }
+
+    /**
+     * Resolves a flipped swap card: the current player swaps places with the nearest player on the board.
+     *
+     * @return the result of the card
+     */
+    public MoveResult handleSwapCardAction() {
+        MoveResult result = this.resolveSwapCardAction();
+
+        if(this.eventListener != null) {
+            this.eventListener.onSwapCardResolved(result);
+        }
+        return result;
+    }
+
+    private MoveResult resolveSwapCardAction() {
+        GameState state = this.gameState;
+        int playerID = state.getTurnController().getTurnPlayerID();
+        int tileCount = state.getTileCount();
+        int currentTileID = state.getCurrentTileID(playerID);
+        boolean fromCave = false;
+        boolean goesForward = false;
+
+        MoveResult result = new MoveResult(playerID, currentTileID);
+
+        if (currentTileID == 0) {
+            fromCave = true;
+            currentTileID = state.getCaveTileID(playerID);
+        }
+
+        int playerToSwapID = GameState.NO_PLAYER;
+        int closestTileDifference = Integer.MAX_VALUE;
+
+        for (int i = 0; i < state.getPlayerCount(); i++) {
+            int possiblePlayerTileID = state.getCurrentTileID(i);
+
+            if (i != playerID && possiblePlayerTileID != 0) {
+                // Steps needed to reach the other player going forward and going backward
+                int forwardDistance = possiblePlayerTileID - currentTileID;
+                if (forwardDistance < 0) {
+                    forwardDistance += tileCount;
+                }
+                int backwardDistance = forwardDistance == 0 ? 0 : tileCount - forwardDistance;
+
+                int tileDifference = Math.min(forwardDistance, backwardDistance);
+
+                if (tileDifference < closestTileDifference) {
+                    if (forwardDistance <= backwardDistance) {
+                        goesForward = true;
+                    }
+                    closestTileDifference = tileDifference;
+                    playerToSwapID = i;
+                }
+            }
+        }
+
+        if (playerToSwapID != GameState.NO_PLAYER) {
+            if (goesForward) {
+                state.setTilesLeft(playerToSwapID, state.getTilesLeft(playerToSwapID) + closestTileDifference);
+
+                if (state.getTilesLeft(playerID) - closestTileDifference < 0) { // if pass own cave after one loop
+                    state.setTilesLeft(playerID, tileCount + 1 - closestTileDifference + state.getTilesLeft(playerID) - 1);
+                } else {
+                    state.setTilesLeft(playerID, state.getTilesLeft(playerID) - closestTileDifference);
+                }
+            } else {
+                state.setTilesLeft(playerID, state.getTilesLeft(playerID) + closestTileDifference);
+
+                if (state.getTilesLeft(playerToSwapID) - closestTileDifference < 0) { // if pass own cave after one loop
+                    state.setTilesLeft(playerToSwapID, tileCount + 1 - closestTileDifference + state.getTilesLeft(playerID) - 1);
+                } else {
+                    state.setTilesLeft(playerToSwapID, state.getTilesLeft(playerToSwapID) - closestTileDifference);
+                }
+            }
+
+            byte previousCurrentTileCode = state.getCurrentTileCode(playerID);
+            state.setCurrentTileCode(playerID, state.getCurrentTileCode(playerToSwapID));
+            state.setCurrentTileCode(playerToSwapID, previousCurrentTileCode);
+
+            int previousCurrentTileID = state.getCurrentTileID(playerID);
+            state.setCurrentTileID(playerID, state.getCurrentTileID(playerToSwapID));
+            state.setCurrentTileID(playerToSwapID, previousCurrentTileID);
+
+            if (fromCave) {
+                // The swapped player takes over the cave the current player left from
+                state.setCaveTileID(playerToSwapID, state.getCaveTileID(playerID));
+                state.setCurrentCaveID(playerToSwapID, state.getCurrentCaveID(playerID));
+            }
+
+            result.setMoveType(MoveType.SWAP_CARD);
+            result.setToTileID(state.getCurrentTileID(playerID));
+            result.setOtherPlayerID(playerToSwapID);
+            result.setExitedCave(fromCave);
+        } else {
+            result.setMoveType(MoveType.PASS);
+        }
+
+        this.endTurn(result);
+        return result;
+    }
+
+    /**
+     * Ends the current player's turn as part of resolving a card.
+     *
+     * @param result the result to mark as ending the turn
+     */
+    private void endTurn(MoveResult result) {
+        result.setTurnEnded(true);
+        this.passTurn();
+    }
+}
@@ -0,0 +1,21 @@
+package com.fierydragon.components.enums;
+
+/**
+ * Move type
+ *
+ * Outcome of resolving a flipped dragon card in the rules engine
+ */
+public enum MoveType {
+    /** No movement was possible, the turn passes */
+    PASS,
+    /** The player could not leave its cave because the landing tile is occupied, the turn passes */
+    BLOCKED,
+    /** The player moved to a free tile (or into its cave) and keeps the turn */
+    MOVE,
+    /** The player landed on an occupied tile and swapped back with the occupying player, the turn passes */
+    SWAP_BACK,
+    /** The player swapped places with the nearest player through a swap card, the turn passes */
+    SWAP_CARD,
+    /** Nothing happened and the turn does not pass */
+    NONE
+}
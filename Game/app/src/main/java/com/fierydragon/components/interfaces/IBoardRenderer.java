@@ -0,0 +1,55 @@
+package com.fierydragon.components.interfaces;
+
+import com.fierydragon.components.level.BoardGeometry;
+
+import javafx.scene.Group;
+import javafx.scene.image.Image;
+
+/**
+ * Board renderer interface, drawing the static part of a GameBoard: its background, tiles and caves
+ *
+ * The dragon cards and player characters stay scene nodes of the board, drawn above the renderer.
+ */
+public interface IBoardRenderer {
+    /**
+     * Adds the renderer's nodes below every other node of a board
+     *
+     * @param levelRoot the root of the board's scene
+     */
+    public void attach(Group levelRoot);
+
+    /**
+     * Removes the renderer's nodes from a board
+     *
+     * @param levelRoot the root of the board's scene
+     */
+    public void detach(Group levelRoot);
+
+    /**
+     * Positions or draws the static board after a layout
+     *
+     * @param boardGeometry the geometry of the board at the scene size
+     * @param width the width of the scene
+     * @param height the height of the scene
+     */
+    public void layout(BoardGeometry boardGeometry, double width, double height);
+
+    /**
+     * Shows another board background, once decoded
+     *
+     * @param background the background image
+     */
+    public void setBackground(Image background);
+
+    /**
+     * Draws the tiles and caves from the current CardAtlas, after it was packed at another resolution
+     */
+    public void refreshAtlas();
+
+    /**
+     * Counts the scene nodes the renderer adds to a board
+     *
+     * @return the number of nodes
+     */
+    public int getNodeCount();
+}
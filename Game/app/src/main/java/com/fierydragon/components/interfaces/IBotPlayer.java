@@ -0,0 +1,32 @@
+package com.fierydragon.components.interfaces;
+
+import com.fierydragon.components.engine.GameState;
+import com.fierydragon.components.enums.CardType;
+
+/**
+ * Bot player interface for choosing which dragon card to flip from what the bot has seen so far
+ *
+ * A bot is only ever called from one background thread at a time (see BotRunner), so it needs no locking.
+ * It may read positions and which cards are face up from the GameState, but must not modify it or look at the
+ * face of a card it has not been shown through observeCard.
+ */
+public interface IBotPlayer {
+    /**
+     * Shows the bot a card turned face up, by any player
+     *
+     * @param cardID the index of the card
+     * @param cardType the type of the card
+     * @param cardValue the value of the card
+     */
+    public void observeCard(int cardID, CardType cardType, int cardValue);
+
+    /**
+     * Choose the next dragon card to flip for a player, returning before the deadline
+     *
+     * @param gameState the state of the game, with at least one card face down
+     * @param playerID the ID of the player to choose for
+     * @param deadlineNanos the System.nanoTime() by which the choice is needed
+     * @return the index of a face down dragon card
+     */
+    public int chooseCard(GameState gameState, int playerID, long deadlineNanos);
+}
@@ -8,6 +8,13 @@ import com.fierydragon.components.enums.CardType;
  * @author Chang Yi Zhong
  */
 public interface ICardDelegate {
+    /**
+     * Turn a card face up by delegate class, halfway through its flip animation
+     *
+     * @param cardID the index of the card
+     */
+    public void handleCardRevealed(int cardID);
+
     /**
      * Handle card action by delegate class
      * 
@@ -23,4 +30,18 @@ public interface ICardDelegate {
      * @param cardValue
      */
     public void handleSwapCardAction();
+
+    /**
+     * Whether cards can currently be flipped by clicking them (false while a bot is playing)
+     *
+     * @return true if card clicks are accepted
+     */
+    public boolean acceptsCardClicks();
+
+    /**
+     * Whether cards are turned and resolved at once, without their flip animation
+     *
+     * @return true in fast play
+     */
+    public boolean isFastPlay();
 }
@@ -0,0 +1,39 @@
+package com.fierydragon.components.interfaces;
+
+import com.fierydragon.components.engine.MoveResult;
+import com.fierydragon.components.enums.CardType;
+
+/**
+ * Game event listener interface, told by the RulesEngine about every change it makes to a GameState
+ *
+ * Replaying the events in order on the state they started from gives the same state again.
+ */
+public interface IGameEventListener {
+    /**
+     * A dragon card was turned face up
+     *
+     * @param cardID the index of the card
+     */
+    public void onCardFlipped(int cardID);
+
+    /**
+     * A movement card was resolved for the current player
+     *
+     * @param cardType the type of the card
+     * @param cardValue the value of the card
+     * @param result the result of the card
+     */
+    public void onCardResolved(CardType cardType, int cardValue, MoveResult result);
+
+    /**
+     * A swap card was resolved for the current player
+     *
+     * @param result the result of the card
+     */
+    public void onSwapCardResolved(MoveResult result);
+
+    /**
+     * The turn was passed without resolving a card
+     */
+    public void onTurnPassed();
+}
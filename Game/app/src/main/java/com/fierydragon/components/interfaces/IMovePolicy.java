@@ -0,0 +1,20 @@
+package com.fierydragon.components.interfaces;
+
+import java.util.random.RandomGenerator;
+
+import com.fierydragon.components.engine.GameState;
+
+/**
+ * Move policy interface for choosing which dragon card a player flips in a headless game
+ */
+public interface IMovePolicy {
+    /**
+     * Choose the next dragon card to flip for the current player
+     *
+     * @param gameState the state of the game, with at least one card face down
+     * @param playerID the ID of the player to choose for
+     * @param random the random generator of the game
+     * @return the index of a face down dragon card
+     */
+    public int chooseCard(GameState gameState, int playerID, RandomGenerator random);
+}
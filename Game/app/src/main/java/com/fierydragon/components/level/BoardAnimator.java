@@ -0,0 +1,224 @@
+package com.fierydragon.components.level;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.shape.Circle;
+
+/**
+ * The BoardAnimator plays the player character moves of a board one after another, from a single AnimationTimer.
+ *
+ * Moves are positioned from the board geometry of the last layout on every frame, so a move follows the
+ * board when it is resized. Arcs turn around the board center by whole tile angles, no path is built per move.
+ * Moves waiting behind the one shown speed it up, and past MAX_BACKLOG the oldest moves are finished at once.
+ * Whether shown or finished at once, the action of every move runs exactly once, in the order the moves were scheduled.
+ */
+public class BoardAnimator {
+    private static final double MOVE_SECONDS = 0.85;
+    private static final int MAX_BACKLOG = 4;
+
+    private final AnimationTimer timer;
+    private final ArrayDeque<Step> steps;
+    private long lastFrameNanos;
+    private boolean running;
+
+    private final BoardGeometry boardGeometry;
+
+    /**
+     * Constructs a BoardAnimator positioning moves from a board's geometry.
+     *
+     * @param boardGeometry the geometry of the board, updated by its layout
+     */
+    public BoardAnimator(BoardGeometry boardGeometry) {
+        this.boardGeometry = boardGeometry;
+
+        this.steps = new ArrayDeque<Step>();
+        this.running = false;
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                BoardAnimator.this.tick(now);
+            }
+        };
+    }
+
+    /**
+     * Moves the characters of the scheduled moves onto the board after a layout.
+     */
+    public void refresh() {
+        // Latest first, so a character moved by several steps ends up where the earliest one has it
+        Iterator<Step> latestFirst = this.steps.descendingIterator();
+        while(latestFirst.hasNext()) {
+            Step step = latestFirst.next();
+            step.apply(this, step.progress);
+        }
+    }
+
+    /**
+     * Schedules moves played together, after every move scheduled before.
+     *
+     * @param onFinished the action to run once the moves are done, or null
+     * @param moves the moves to play
+     */
+    public void schedule(Runnable onFinished, TokenMove... moves) {
+        this.steps.addLast(new Step(moves, onFinished));
+
+        while(this.steps.size() > BoardAnimator.MAX_BACKLOG) {
+            this.finishStep();
+        }
+
+        if(!this.running && !this.steps.isEmpty()) {
+            this.running = true;
+            this.lastFrameNanos = 0;
+            this.timer.start();
+        }
+    }
+
+    /**
+     * Finishes every scheduled move at once, running their actions in order.
+     */
+    public void finishAll() {
+        while(!this.steps.isEmpty()) {
+            this.finishStep();
+        }
+    }
+
+    private void tick(long now) {
+        double elapsedSeconds = this.lastFrameNanos == 0 ? 0.0 : (now - this.lastFrameNanos) / 1e9;
+        this.lastFrameNanos = now;
+
+        Step step = this.steps.peekFirst();
+        if(step == null) {
+            return;
+        }
+
+        // Every move waiting behind this one makes it play faster
+        step.progress += this.steps.size() * elapsedSeconds / BoardAnimator.MOVE_SECONDS;
+        if(step.progress >= 1.0) {
+            this.finishStep();
+        } else {
+            step.apply(this, step.progress);
+        }
+    }
+
+    /**
+     * Puts the characters of the oldest step at the end of their moves and runs its action.
+     */
+    private void finishStep() {
+        Step step = this.steps.pollFirst();
+        if(this.steps.isEmpty() && this.running) {
+            this.running = false;
+            this.timer.stop();
+        }
+
+        step.apply(this, 1.0);
+        if(step.onFinished != null) {
+            step.onFinished.run();
+        }
+    }
+
+    /**
+     * Moves a character to a fraction of its move, the legs sharing the move by their length.
+     *
+     * @param move the move
+     * @param progress the fraction of the move done, from 0 to 1
+     */
+    private void setPosition(TokenMove move, double progress) {
+        double totalLength = 0.0;
+        for(int i = 0; i < move.getLegCount(); i++) {
+            totalLength += this.getLegLength(move, i);
+        }
+
+        double distance = progress * totalLength;
+        for(int i = 0; i < move.getLegCount(); i++) {
+            double legLength = this.getLegLength(move, i);
+            if(distance < legLength) {
+                this.setLegPosition(move, i, distance / legLength);
+                return;
+            }
+            distance -= legLength;
+        }
+
+        int endStop = move.getStop(move.getLegCount());
+        BoardAnimator.setCenter(move.getToken(), this.getStopX(endStop), this.getStopY(endStop));
+    }
+
+    private double getLegLength(TokenMove move, int leg) {
+        int from = move.getStop(leg);
+        int to = move.getStop(leg + 1);
+        int direction = move.getLegDirection(leg);
+
+        if(direction == 0) {
+            return Math.hypot(this.getStopX(to) - this.getStopX(from), this.getStopY(to) - this.getStopY(from));
+        }
+        return this.getTileSteps(from, to, direction) * this.boardGeometry.getTileAngle() * this.boardGeometry.getBoardPathRadius();
+    }
+
+    private void setLegPosition(TokenMove move, int leg, double legProgress) {
+        int from = move.getStop(leg);
+        int to = move.getStop(leg + 1);
+        int direction = move.getLegDirection(leg);
+
+        if(direction == 0) {
+            double x = this.getStopX(from) + legProgress * (this.getStopX(to) - this.getStopX(from));
+            double y = this.getStopY(from) + legProgress * (this.getStopY(to) - this.getStopY(from));
+            BoardAnimator.setCenter(move.getToken(), x, y);
+            return;
+        }
+
+        double angle = this.boardGeometry.getTileCenterAngle(from) + direction * legProgress * this.getTileSteps(from, to, direction) * this.boardGeometry.getTileAngle();
+        BoardAnimator.setCenter(move.getToken(),
+            this.boardGeometry.getBoardCenterX() + this.boardGeometry.getBoardPathRadius() * Math.cos(angle),
+            this.boardGeometry.getBoardCenterY() + this.boardGeometry.getBoardPathRadius() * Math.sin(angle));
+    }
+
+    /**
+     * Counts the tiles walked from one tile to another in a direction.
+     *
+     * @param from the ID of the tile walked from
+     * @param to the ID of the tile walked to
+     * @param direction 1 through increasing tile IDs, -1 through decreasing ones
+     * @return the number of tiles walked
+     */
+    private int getTileSteps(int from, int to, int direction) {
+        int tileCount = this.boardGeometry.getTileCount();
+        return (direction * (to - from) + tileCount) % tileCount;
+    }
+
+    private double getStopX(int stop) {
+        return stop > 0 ? this.boardGeometry.getTileCenterX()[stop] : this.boardGeometry.getCaveCenterX()[-1 - stop];
+    }
+
+    private double getStopY(int stop) {
+        return stop > 0 ? this.boardGeometry.getTileCenterY()[stop] : this.boardGeometry.getCaveCenterY()[-1 - stop];
+    }
+
+    private static void setCenter(Circle token, double x, double y) {
+        token.setTranslateX(0);
+        token.setTranslateY(0);
+        token.setCenterX(x);
+        token.setCenterY(y);
+    }
+
+    /**
+     * Moves played together and the action run once they are done
+     */
+    private static class Step {
+        private final TokenMove[] moves;
+        private final Runnable onFinished;
+        private double progress;
+
+        private Step(TokenMove[] moves, Runnable onFinished) {
+            this.moves = moves;
+            this.onFinished = onFinished;
+            this.progress = 0.0;
+        }
+
+        private void apply(BoardAnimator boardAnimator, double progress) {
+            for(TokenMove move: this.moves) {
+                boardAnimator.setPosition(move, progress);
+            }
+        }
+    }
+}
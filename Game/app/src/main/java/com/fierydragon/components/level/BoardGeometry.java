@@ -0,0 +1,455 @@
+package com.fierydragon.components.level;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The BoardGeometry holds the positions of a board's tiles, caves and dragon card slots at one board size.
+ *
+ * Every angle on the board is a multiple of half a tile, or of a card ring slot, so positions are the unit circle
+ * scaled to a radius. The unit circle of every number of divisions is computed once and shared by every board and
+ * size, and a layout at the size of the last one is not computed again.
+ *
+ * The dragon cards are placed around a center card on as many evenly spaced rings as the deck needs, at least
+ * MIN_CARD_RING_COUNT. The outermost ring always stays clear of the tiles, so the cards shrink as rings are added.
+ * A ring holds about 7 cards more than the one inside it, so a deck of n cards needs about sqrt(n / 3.5) rings
+ * and placing it takes linear time.
+ */
+public class BoardGeometry {
+    // Radius of the outermost dragon card ring, relative to the board's outer radius
+    private static final double MAX_CARD_RING_RADIUS = 0.5;
+    private static final int MIN_CARD_RING_COUNT = 2;
+
+    // Distances between two rings, and between two cards of a ring, in card radii
+    private static final double CARD_RING_SPACING = 2.5;
+    private static final double CARD_SPACING = 2.2;
+
+    // Cosine and sine of every division of the unit circle, interleaved, by number of divisions
+    private static final Map<Integer, double[]> UNIT_CIRCLES = new ConcurrentHashMap<Integer, double[]>();
+
+    private final int tileCount;
+    private final int caveSpacing;
+    private final int caveCount;
+    private final int cardCount;
+    private final int cardRingCount;
+
+    // Size of the last layout
+    private double width;
+    private double height;
+
+    private double boardCenterX;
+    private double boardCenterY;
+    private double boardOuterRadius;
+    private double boardInnerRadius;
+    private double boardPathRadius;
+    private double tileChordLength;
+    private double caveRadius;
+    private double dragonCardRadius;
+
+    // Inner and outer corners of the border every tile starts at, by tile ID modulo the tile count
+    private final double[] innerCornerX;
+    private final double[] innerCornerY;
+    private final double[] outerCornerX;
+    private final double[] outerCornerY;
+
+    // Indexed by tile ID, 0 (no tile) is unused
+    private final double[] tileCenterX;
+    private final double[] tileCenterY;
+    private final double[] tileImageCenterX;
+    private final double[] tileImageCenterY;
+
+    private final double[] caveCenterX;
+    private final double[] caveCenterY;
+
+    private final double[] cardSlotX;
+    private final double[] cardSlotY;
+
+    /**
+     * Constructs the geometry of a board. Nothing is positioned until the first update.
+     *
+     * @param tileCount the number of tiles
+     * @param caveSpacing the number of tiles between two caves
+     * @param caveCount the number of caves
+     * @param cardCount the number of dragon cards
+     */
+    public BoardGeometry(int tileCount, int caveSpacing, int caveCount, int cardCount) {
+        this.tileCount = tileCount;
+        this.caveSpacing = caveSpacing;
+        this.caveCount = caveCount;
+        this.cardCount = cardCount;
+        this.cardRingCount = BoardGeometry.getCardRingCount(cardCount);
+        this.width = -1;
+        this.height = -1;
+
+        this.innerCornerX = new double[tileCount];
+        this.innerCornerY = new double[tileCount];
+        this.outerCornerX = new double[tileCount];
+        this.outerCornerY = new double[tileCount];
+
+        this.tileCenterX = new double[tileCount + 1];
+        this.tileCenterY = new double[tileCount + 1];
+        this.tileImageCenterX = new double[tileCount + 1];
+        this.tileImageCenterY = new double[tileCount + 1];
+
+        this.caveCenterX = new double[caveCount];
+        this.caveCenterY = new double[caveCount];
+
+        this.cardSlotX = new double[cardCount];
+        this.cardSlotY = new double[cardCount];
+    }
+
+    /**
+     * Counts the dragon cards fitting on a ring. The same at every card size, as rings are spaced in card radii.
+     *
+     * @param ring the ring, 1 for the innermost one
+     * @return the number of cards
+     */
+    private static int getCardsOnRing(int ring) {
+        return (int) Math.floor((2 * Math.PI * ring * BoardGeometry.CARD_RING_SPACING) / BoardGeometry.CARD_SPACING);
+    }
+
+    /**
+     * Counts the rings needed to place a deck around its center card.
+     *
+     * @param cardCount the number of dragon cards
+     * @return the number of rings, at least MIN_CARD_RING_COUNT
+     */
+    private static int getCardRingCount(int cardCount) {
+        int ringCount = 0;
+        int cardCapacity = 1;
+        while(cardCapacity < cardCount) {
+            ringCount++;
+            cardCapacity += BoardGeometry.getCardsOnRing(ringCount);
+        }
+        return Math.max(ringCount, BoardGeometry.MIN_CARD_RING_COUNT);
+    }
+
+    /**
+     * Returns the unit circle split into equal divisions, starting at angle 0.
+     *
+     * @param divisions the number of divisions
+     * @return the cosine and sine of every division, interleaved
+     */
+    private static double[] getUnitCircle(int divisions) {
+        return BoardGeometry.UNIT_CIRCLES.computeIfAbsent(divisions, (count) -> {
+            double[] unitCircle = new double[count * 2];
+            for(int i = 0; i < count; i++) {
+                double angle = 2 * Math.PI * i / count;
+                unitCircle[i * 2] = Math.cos(angle);
+                unitCircle[i * 2 + 1] = Math.sin(angle);
+            }
+            return unitCircle;
+        });
+    }
+
+    /**
+     * Positions everything for a board size, unless it is the size of the last update.
+     *
+     * @param width the width of the scene
+     * @param height the height of the scene
+     * @return true if the positions changed
+     */
+    public boolean update(double width, double height) {
+        if(width == this.width && height == this.height) {
+            return false;
+        }
+        this.width = width;
+        this.height = height;
+
+        this.boardCenterX = width / 2;
+        this.boardCenterY = height / 2;
+        this.boardOuterRadius = 0.75 * (height / 2);
+        this.boardInnerRadius = 0.65 * this.boardOuterRadius;
+        this.boardPathRadius = 0.85 * this.boardOuterRadius;
+        this.dragonCardRadius = BoardGeometry.MAX_CARD_RING_RADIUS * this.boardOuterRadius / (BoardGeometry.CARD_RING_SPACING * this.cardRingCount);
+
+        // ===============
+        // Tiles (in half tile divisions, tile i starts at division 2i + 1 and is centered on 2i + 2)
+        double[] halfTiles = BoardGeometry.getUnitCircle(this.tileCount * 2);
+        double cosHalfTile = halfTiles[2];
+        double sinHalfTile = halfTiles[3];
+
+        this.tileChordLength = 2 * this.boardInnerRadius * sinHalfTile;
+        double tileImageRadius = this.boardInnerRadius + (this.tileChordLength / 2.0);
+
+        for(int k = 0; k < this.tileCount; k++) {
+            double cos = halfTiles[(2 * k + 1) * 2];
+            double sin = halfTiles[(2 * k + 1) * 2 + 1];
+
+            this.innerCornerX[k] = this.boardCenterX + this.boardInnerRadius * cos;
+            this.innerCornerY[k] = this.boardCenterY + this.boardInnerRadius * sin;
+            this.outerCornerX[k] = this.boardCenterX + this.boardOuterRadius * cos;
+            this.outerCornerY[k] = this.boardCenterY + this.boardOuterRadius * sin;
+        }
+
+        for(int i = 1; i <= this.tileCount; i++) {
+            int division = (2 * i + 2) % (this.tileCount * 2);
+            double cos = halfTiles[division * 2];
+            double sin = halfTiles[division * 2 + 1];
+
+            this.tileCenterX[i] = this.boardCenterX + this.boardPathRadius * cos;
+            this.tileCenterY[i] = this.boardCenterY + this.boardPathRadius * sin;
+            this.tileImageCenterX[i] = this.boardCenterX + tileImageRadius * cos;
+            this.tileImageCenterY[i] = this.boardCenterY + tileImageRadius * sin;
+        }
+        // ===============
+
+        // ===============
+        // Caves (circles through the outer corners of their tile)
+        this.caveRadius = (this.boardOuterRadius - this.boardInnerRadius) / 2;
+        double outerChordHalf = this.boardOuterRadius * sinHalfTile;
+        double centerToCaveRadius = this.boardOuterRadius * cosHalfTile + Math.sqrt(this.caveRadius * this.caveRadius - outerChordHalf * outerChordHalf);
+
+        for(int caveID = 0; caveID < this.caveCount && this.getCaveTileID(caveID) <= this.tileCount; caveID++) {
+            int tileID = this.getCaveTileID(caveID);
+            this.caveCenterX[caveID] = this.boardCenterX + centerToCaveRadius * (this.tileCenterX[tileID] - this.boardCenterX) / this.boardPathRadius;
+            this.caveCenterY[caveID] = this.boardCenterY + centerToCaveRadius * (this.tileCenterY[tileID] - this.boardCenterY) / this.boardPathRadius;
+        }
+        // ===============
+
+        // ===============
+        // Dragon card slots (first card always in middle)
+        if(this.cardCount > 0) {
+            this.cardSlotX[0] = this.boardCenterX;
+            this.cardSlotY[0] = this.boardCenterY;
+        }
+
+        int cardID = 1;
+        for(int ring = 1; cardID < this.cardCount; ring++) {
+            double radius = ring * BoardGeometry.CARD_RING_SPACING * this.dragonCardRadius;
+            int cardsOnRing = Math.min(BoardGeometry.getCardsOnRing(ring), this.cardCount - cardID);
+
+            // The last ring spreads its cards evenly, even if it is not full
+            double[] ringSlots = BoardGeometry.getUnitCircle(cardsOnRing);
+            for(int i = 0; i < cardsOnRing; i++) {
+                this.cardSlotX[cardID] = this.boardCenterX + radius * ringSlots[i * 2];
+                this.cardSlotY[cardID] = this.boardCenterY + radius * ringSlots[i * 2 + 1];
+                cardID++;
+            }
+        }
+        // ===============
+
+        return true;
+    }
+
+    /**
+     * Gets the number of tiles.
+     *
+     * @return the tile count
+     */
+    public int getTileCount() {
+        return this.tileCount;
+    }
+
+    /**
+     * Gets the ID of the tile a cave is attached to.
+     *
+     * @param caveID the ID of the cave
+     * @return the tile ID
+     */
+    public int getCaveTileID(int caveID) {
+        return caveID * this.caveSpacing + 1;
+    }
+
+    /**
+     * Gets the angle from one tile center to the next, in radians.
+     *
+     * @return the tile angle
+     */
+    public double getTileAngle() {
+        return 2 * Math.PI / this.tileCount;
+    }
+
+    /**
+     * Gets the angle of a tile center around the board center, in radians.
+     *
+     * @param tileID the ID of the tile
+     * @return the tile center angle
+     */
+    public double getTileCenterAngle(int tileID) {
+        return this.getTileAngle() * (tileID + 1);
+    }
+
+    /**
+     * Gets the x of the board center.
+     *
+     * @return the board center x
+     */
+    public double getBoardCenterX() {
+        return this.boardCenterX;
+    }
+
+    /**
+     * Gets the y of the board center.
+     *
+     * @return the board center y
+     */
+    public double getBoardCenterY() {
+        return this.boardCenterY;
+    }
+
+    /**
+     * Gets the radius of the outer edge of the tiles.
+     *
+     * @return the board outer radius
+     */
+    public double getBoardOuterRadius() {
+        return this.boardOuterRadius;
+    }
+
+    /**
+     * Gets the radius of the inner edge of the tiles.
+     *
+     * @return the board inner radius
+     */
+    public double getBoardInnerRadius() {
+        return this.boardInnerRadius;
+    }
+
+    /**
+     * Gets the radius of the path through the tile centers, which the player characters move along.
+     *
+     * @return the board path radius
+     */
+    public double getBoardPathRadius() {
+        return this.boardPathRadius;
+    }
+
+    /**
+     * Gets the length of the inner border of a tile, the smallest size on the board.
+     *
+     * @return the tile chord length
+     */
+    public double getTileChordLength() {
+        return this.tileChordLength;
+    }
+
+    /**
+     * Gets the radius of every cave.
+     *
+     * @return the cave radius
+     */
+    public double getCaveRadius() {
+        return this.caveRadius;
+    }
+
+    /**
+     * Gets the radius of every dragon card.
+     *
+     * @return the dragon card radius
+     */
+    public double getDragonCardRadius() {
+        return this.dragonCardRadius;
+    }
+
+    /**
+     * Gets the corners of the border every tile starts at, by tile ID modulo the tile count.
+     * A tile ends at the border the next tile starts at. The arrays are updated in place.
+     *
+     * @return the x of every inner corner
+     */
+    public double[] getInnerCornerX() {
+        return this.innerCornerX;
+    }
+
+    /**
+     * Gets the y of the inner corner of the border every tile starts at.
+     *
+     * @return the y of every inner corner
+     */
+    public double[] getInnerCornerY() {
+        return this.innerCornerY;
+    }
+
+    /**
+     * Gets the x of the outer corner of the border every tile starts at.
+     *
+     * @return the x of every outer corner
+     */
+    public double[] getOuterCornerX() {
+        return this.outerCornerX;
+    }
+
+    /**
+     * Gets the y of the outer corner of the border every tile starts at.
+     *
+     * @return the y of every outer corner
+     */
+    public double[] getOuterCornerY() {
+        return this.outerCornerY;
+    }
+
+    /**
+     * Gets the centers of the tiles, indexed by tile ID. The arrays are updated in place.
+     *
+     * @return the x of every tile center
+     */
+    public double[] getTileCenterX() {
+        return this.tileCenterX;
+    }
+
+    /**
+     * Gets the y of every tile center, indexed by tile ID.
+     *
+     * @return the y of every tile center
+     */
+    public double[] getTileCenterY() {
+        return this.tileCenterY;
+    }
+
+    /**
+     * Gets the centers of the tile images, indexed by tile ID. The arrays are updated in place.
+     *
+     * @return the x of every tile image center
+     */
+    public double[] getTileImageCenterX() {
+        return this.tileImageCenterX;
+    }
+
+    /**
+     * Gets the y of every tile image center, indexed by tile ID.
+     *
+     * @return the y of every tile image center
+     */
+    public double[] getTileImageCenterY() {
+        return this.tileImageCenterY;
+    }
+
+    /**
+     * Gets the centers of the caves, indexed by cave ID. The arrays are updated in place.
+     *
+     * @return the x of every cave center
+     */
+    public double[] getCaveCenterX() {
+        return this.caveCenterX;
+    }
+
+    /**
+     * Gets the y of every cave center, indexed by cave ID.
+     *
+     * @return the y of every cave center
+     */
+    public double[] getCaveCenterY() {
+        return this.caveCenterY;
+    }
+
+    /**
+     * Gets the x of the slot of a dragon card.
+     *
+     * @param cardID the ID of the card
+     * @return the slot x
+     */
+    public double getCardSlotX(int cardID) {
+        return this.cardSlotX[cardID];
+    }
+
+    /**
+     * Gets the y of the slot of a dragon card.
+     *
+     * @param cardID the ID of the card
+     * @return the slot y
+     */
+    public double getCardSlotY(int cardID) {
+        return this.cardSlotY[cardID];
+    }
+}
@@ -0,0 +1,190 @@
+package com.fierydragon.components.level;
+
+import com.fierydragon.components.engine.GameState;
+import com.fierydragon.components.enums.CardType;
+import com.fierydragon.components.interfaces.IBoardRenderer;
+import com.fierydragon.components.level.object.CardAtlas;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+/**
+ * The CanvasBoardRenderer draws the whole static board (background, tiles and caves) into a single Canvas,
+ * so the board costs one node whatever the number of tiles. The canvas is only drawn again when the board is
+ * resized, or when the background or the CardAtlas changed.
+ */
+public class CanvasBoardRenderer implements IBoardRenderer {
+    private final GameState gameState;
+    private final Canvas canvas;
+
+    private Image background;
+
+    // Geometry of the last layout, null before the first one
+    private BoardGeometry boardGeometry;
+
+    /**
+     * Constructs a CanvasBoardRenderer for the tiles and caves of a game.
+     *
+     * @param gameState the state of the game, giving the tile and cave types
+     */
+    public CanvasBoardRenderer(GameState gameState) {
+        this.gameState = gameState;
+        this.canvas = new Canvas();
+    }
+
+    @Override
+    public void attach(Group levelRoot) {
+        levelRoot.getChildren().add(0, this.canvas);
+    }
+
+    @Override
+    public void detach(Group levelRoot) {
+        levelRoot.getChildren().remove(this.canvas);
+    }
+
+    @Override
+    public void layout(BoardGeometry boardGeometry, double width, double height) {
+        if(boardGeometry == this.boardGeometry && width == this.canvas.getWidth() && height == this.canvas.getHeight()) {
+            return;
+        }
+
+        this.boardGeometry = boardGeometry;
+        this.canvas.setWidth(width);
+        this.canvas.setHeight(height);
+        this.draw();
+    }
+
+    @Override
+    public void setBackground(Image background) {
+        this.background = background;
+        this.draw();
+    }
+
+    @Override
+    public void refreshAtlas() {
+        this.draw();
+    }
+
+    @Override
+    public int getNodeCount() {
+        return 1;
+    }
+
+    /**
+     * Draws the board at the geometry of the last layout, if there was one.
+     */
+    private void draw() {
+        if(this.boardGeometry == null) {
+            return;
+        }
+
+        BoardGeometry boardGeometry = this.boardGeometry;
+        GraphicsContext graphics = this.canvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, this.canvas.getWidth(), this.canvas.getHeight());
+
+        // ===============
+        // Board Background
+        if(this.background != null) {
+            graphics.setGlobalAlpha(0.8);
+            graphics.drawImage(this.background, 0, 0, this.canvas.getWidth(), this.canvas.getHeight());
+        }
+        // ===============
+
+        // ===============
+        // Tiles, as one path of every tile outline
+        int tileCount = boardGeometry.getTileCount();
+        double boardCenterX = boardGeometry.getBoardCenterX();
+        double boardCenterY = boardGeometry.getBoardCenterY();
+        double boardOuterRadius = boardGeometry.getBoardOuterRadius();
+        double boardPathRadius = boardGeometry.getBoardPathRadius();
+        double[] innerCornerX = boardGeometry.getInnerCornerX();
+        double[] innerCornerY = boardGeometry.getInnerCornerY();
+        double[] tileCenterX = boardGeometry.getTileCenterX();
+        double[] tileCenterY = boardGeometry.getTileCenterY();
+
+        // The inner edge is an arc of the outer radius, like the Path of the node renderer, whose center is
+        // on the tile's middle line. Canvas angles turn counterclockwise on screen, board angles clockwise.
+        double halfChord = boardGeometry.getTileChordLength() / 2;
+        double innerArcHalfAngle = Math.toDegrees(Math.asin(halfChord / boardOuterRadius));
+        double innerArcCenterDistance = Math.sqrt(boardGeometry.getBoardInnerRadius() * boardGeometry.getBoardInnerRadius() - halfChord * halfChord)
+            - Math.sqrt(boardOuterRadius * boardOuterRadius - halfChord * halfChord);
+        double tileAngle = Math.toDegrees(boardGeometry.getTileAngle());
+
+        graphics.setGlobalAlpha(1.0);
+        graphics.beginPath();
+        for(int i = 1; i <= tileCount; i++) {
+            int startCorner = i % tileCount;
+            int endCorner = (i + 1) % tileCount;
+            double tileCenterAngle = Math.toDegrees(boardGeometry.getTileCenterAngle(i));
+            double unitX = (tileCenterX[i] - boardCenterX) / boardPathRadius;
+            double unitY = (tileCenterY[i] - boardCenterY) / boardPathRadius;
+
+            graphics.moveTo(innerCornerX[startCorner], innerCornerY[startCorner]);
+            graphics.arc(boardCenterX, boardCenterY, boardOuterRadius, boardOuterRadius, -(tileCenterAngle - tileAngle / 2), -tileAngle);
+            graphics.lineTo(innerCornerX[endCorner], innerCornerY[endCorner]);
+            graphics.arc(boardCenterX + innerArcCenterDistance * unitX, boardCenterY + innerArcCenterDistance * unitY,
+                boardOuterRadius, boardOuterRadius, -(tileCenterAngle + innerArcHalfAngle), 2 * innerArcHalfAngle);
+            graphics.closePath();
+        }
+        graphics.setFill(Color.WHITESMOKE);
+        graphics.fill();
+        graphics.setStroke(Color.BLACK);
+        graphics.setLineWidth(1.0);
+        graphics.stroke();
+
+        Image atlas = CardAtlas.INSTANCE.getImage();
+        double tileImageSize = boardGeometry.getTileChordLength();
+
+        graphics.setGlobalAlpha(0.8);
+        for(int i = 1; i <= tileCount; i++) {
+            CanvasBoardRenderer.drawAtlasImage(graphics, atlas, CardAtlas.INSTANCE.getCardViewport(this.gameState.getTileType(i), 1),
+                boardGeometry.getTileImageCenterX()[i], boardGeometry.getTileImageCenterY()[i], tileImageSize);
+        }
+        // ===============
+
+        // ===============
+        // Caves (the circle through the outer corners of their tile)
+        double caveRadius = boardGeometry.getCaveRadius();
+        double[] caveCenterX = boardGeometry.getCaveCenterX();
+        double[] caveCenterY = boardGeometry.getCaveCenterY();
+        int caveCount = Math.min(this.gameState.getCaveCount(), (tileCount - 1) / this.gameState.getCaveSpacing() + 1);
+
+        graphics.setLineWidth(3.0);
+        for(int caveID = 0; caveID < caveCount; caveID++) {
+            CardType caveType = this.gameState.getCaveType(caveID);
+
+            graphics.setGlobalAlpha(1.0);
+            graphics.setFill(Color.WHITE);
+            graphics.fillOval(caveCenterX[caveID] - caveRadius, caveCenterY[caveID] - caveRadius, caveRadius * 2, caveRadius * 2);
+            graphics.setStroke(caveType.getColor());
+            graphics.strokeOval(caveCenterX[caveID] - caveRadius, caveCenterY[caveID] - caveRadius, caveRadius * 2, caveRadius * 2);
+
+            graphics.setGlobalAlpha(0.8);
+            CanvasBoardRenderer.drawAtlasImage(graphics, atlas, CardAtlas.INSTANCE.getCaveViewport(caveType), caveCenterX[caveID], caveCenterY[caveID], caveRadius * 2);
+        }
+        graphics.setGlobalAlpha(1.0);
+        // ===============
+    }
+
+    /**
+     * Draws a region of the CardAtlas as a square.
+     *
+     * @param graphics the graphics context to draw with
+     * @param atlas the atlas image
+     * @param viewport the region of the atlas, or null to draw nothing
+     * @param centerX the x of the square's center
+     * @param centerY the y of the square's center
+     * @param size the size of the square
+     */
+    private static void drawAtlasImage(GraphicsContext graphics, Image atlas, Rectangle2D viewport, double centerX, double centerY, double size) {
+        if(viewport == null) {
+            return;
+        }
+        graphics.drawImage(atlas, viewport.getMinX(), viewport.getMinY(), viewport.getWidth(), viewport.getHeight(),
+            centerX - size / 2, centerY - size / 2, size, size);
+    }
+}
@@ -0,0 +1,215 @@
+package com.fierydragon.components.level;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fierydragon.components.engine.GameState;
+import com.fierydragon.components.enums.CardType;
+import com.fierydragon.components.interfaces.IBoardRenderer;
+import com.fierydragon.components.level.object.CardAtlas;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ArcTo;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.PathElement;
+
+/**
+ * The NodeBoardRenderer draws the static board as scene nodes: the background as an ImageView,
+ * and every tile and cave as a Path with an ImageView on it. The nodes are created once and only moved on layout.
+ */
+public class NodeBoardRenderer implements IBoardRenderer {
+    private final GameState gameState;
+
+    private final ImageView boardBackgroundView;
+    private final ArrayList<Path> tiles;
+    private final ArrayList<ImageView> tileImageViews;
+    private final ArrayList<Path> caves;
+    private final ArrayList<ImageView> caveImageViews;
+
+    // Every node, in drawing order
+    private final ArrayList<Node> nodes;
+
+    /**
+     * Constructs a NodeBoardRenderer and creates the nodes of every tile and cave of a game.
+     *
+     * @param gameState the state of the game, giving the tile and cave types
+     */
+    public NodeBoardRenderer(GameState gameState) {
+        this.gameState = gameState;
+
+        int tileCount = gameState.getTileCount();
+        int caveCount = gameState.getCaveCount();
+        int caveSpacing = gameState.getCaveSpacing();
+
+        this.boardBackgroundView = new ImageView();
+        this.boardBackgroundView.setOpacity(0.8);
+
+        this.tiles = new ArrayList<Path>(tileCount);
+        this.tileImageViews = new ArrayList<ImageView>(tileCount);
+        this.caves = new ArrayList<Path>(caveCount);
+        this.caveImageViews = new ArrayList<ImageView>(caveCount);
+
+        this.nodes = new ArrayList<Node>(1 + 2 * (tileCount + caveCount));
+        this.nodes.add(this.boardBackgroundView);
+
+        for (int i = 1; i <= tileCount; i++) {
+            Path tile = new Path(
+                new MoveTo(),
+                new LineTo(),
+                new ArcTo(),
+                new LineTo(),
+                new ArcTo()
+            );
+            tile.setFill(Color.WHITESMOKE);
+
+            ImageView tileImageView = CardAtlas.INSTANCE.createImageView(CardAtlas.INSTANCE.getCardViewport(gameState.getTileType(i), 1));
+            tileImageView.setOpacity(0.8);
+
+            this.tiles.add(tile);
+            this.tileImageViews.add(tileImageView);
+            this.nodes.add(tile);
+            this.nodes.add(tileImageView);
+
+            if((i - 1) % caveSpacing == 0 && (i - 1) / caveSpacing < caveCount) {
+                CardType caveType = gameState.getCaveType((i - 1) / caveSpacing);
+
+                ImageView caveImageView = CardAtlas.INSTANCE.createImageView(CardAtlas.INSTANCE.getCaveViewport(caveType));
+                caveImageView.setOpacity(0.8);
+
+                Path cave = new Path(
+                    new MoveTo(),
+                    new ArcTo(),
+                    new ArcTo()
+                );
+                cave.setFill(Color.WHITE);
+                cave.setStroke(caveType.getColor());
+                cave.setStrokeWidth(3.0);
+
+                this.caves.add(cave);
+                this.caveImageViews.add(caveImageView);
+                this.nodes.add(cave);
+                this.nodes.add(caveImageView);
+            }
+        }
+    }
+
+    @Override
+    public void attach(Group levelRoot) {
+        levelRoot.getChildren().addAll(0, this.nodes);
+    }
+
+    @Override
+    public void detach(Group levelRoot) {
+        levelRoot.getChildren().removeAll(this.nodes);
+    }
+
+    @Override
+    public void layout(BoardGeometry boardGeometry, double width, double height) {
+        // ===============
+        // Board Background
+        this.boardBackgroundView.setX(0);
+        this.boardBackgroundView.setY(0);
+        this.boardBackgroundView.setFitWidth(width);
+        this.boardBackgroundView.setFitHeight(height);
+        // ===============
+
+        double[] innerCornerX = boardGeometry.getInnerCornerX();
+        double[] innerCornerY = boardGeometry.getInnerCornerY();
+        double[] outerCornerX = boardGeometry.getOuterCornerX();
+        double[] outerCornerY = boardGeometry.getOuterCornerY();
+        double boardOuterRadius = boardGeometry.getBoardOuterRadius();
+        double caveRadius = boardGeometry.getCaveRadius();
+        int tileCount = boardGeometry.getTileCount();
+
+        // ===============
+        // Segment & Cave placement
+        for (int i = 1; i <= tileCount; i++) {
+            int startCorner = i % tileCount;
+            int endCorner = (i + 1) % tileCount;
+
+            List<PathElement> tile = this.tiles.get(i - 1).getElements();
+            NodeBoardRenderer.setMoveTo(tile.get(0), innerCornerX[startCorner], innerCornerY[startCorner]);
+            NodeBoardRenderer.setLineTo(tile.get(1), outerCornerX[startCorner], outerCornerY[startCorner]);
+            NodeBoardRenderer.setArcTo(tile.get(2), boardOuterRadius, outerCornerX[endCorner], outerCornerY[endCorner], false, true);
+            NodeBoardRenderer.setLineTo(tile.get(3), innerCornerX[endCorner], innerCornerY[endCorner]);
+            NodeBoardRenderer.setArcTo(tile.get(4), boardOuterRadius, innerCornerX[startCorner], innerCornerY[startCorner], false, false);
+
+            double tileImageSize = boardGeometry.getTileChordLength();
+            ImageView tileImageView = this.tileImageViews.get(i - 1);
+            tileImageView.setFitWidth(tileImageSize);
+            tileImageView.setFitHeight(tileImageSize);
+            tileImageView.setX(boardGeometry.getTileImageCenterX()[i] - (tileImageSize / 2.0));
+            tileImageView.setY(boardGeometry.getTileImageCenterY()[i] - (tileImageSize / 2.0));
+        }
+
+        for (int caveID = 0; caveID < this.caves.size(); caveID++) {
+            int startCorner = boardGeometry.getCaveTileID(caveID) % tileCount;
+            int endCorner = (startCorner + 1) % tileCount;
+
+            ImageView caveImageView = this.caveImageViews.get(caveID);
+            caveImageView.setFitWidth(caveRadius * 2);
+            caveImageView.setFitHeight(caveRadius * 2);
+            caveImageView.setX(boardGeometry.getCaveCenterX()[caveID] - (caveRadius));
+            caveImageView.setY(boardGeometry.getCaveCenterY()[caveID] - (caveRadius));
+
+            List<PathElement> cave = this.caves.get(caveID).getElements();
+            NodeBoardRenderer.setMoveTo(cave.get(0), outerCornerX[startCorner], outerCornerY[startCorner]);
+            NodeBoardRenderer.setArcTo(cave.get(1), caveRadius, outerCornerX[endCorner], outerCornerY[endCorner], true, true);
+            NodeBoardRenderer.setArcTo(cave.get(2), caveRadius, outerCornerX[startCorner], outerCornerY[startCorner], false, true);
+        }
+        // ===============
+    }
+
+    @Override
+    public void setBackground(Image background) {
+        this.boardBackgroundView.setImage(background);
+    }
+
+    @Override
+    public void refreshAtlas() {
+        for(int i = 1; i <= this.tileImageViews.size(); i++) {
+            ImageView tileImageView = this.tileImageViews.get(i - 1);
+            tileImageView.setImage(CardAtlas.INSTANCE.getImage());
+            tileImageView.setViewport(CardAtlas.INSTANCE.getCardViewport(this.gameState.getTileType(i), 1));
+        }
+
+        for(int i = 0; i < this.caveImageViews.size(); i++) {
+            ImageView caveImageView = this.caveImageViews.get(i);
+            caveImageView.setImage(CardAtlas.INSTANCE.getImage());
+            caveImageView.setViewport(CardAtlas.INSTANCE.getCaveViewport(this.gameState.getCaveType(i)));
+        }
+    }
+
+    @Override
+    public int getNodeCount() {
+        return this.nodes.size();
+    }
+
+    private static void setMoveTo(PathElement element, double x, double y) {
+        MoveTo moveTo = (MoveTo) element;
+        moveTo.setX(x);
+        moveTo.setY(y);
+    }
+
+    private static void setLineTo(PathElement element, double x, double y) {
+        LineTo lineTo = (LineTo) element;
+        lineTo.setX(x);
+        lineTo.setY(y);
+    }
+
+    private static void setArcTo(PathElement element, double radius, double x, double y, boolean largeArcFlag, boolean sweepFlag) {
+        ArcTo arcTo = (ArcTo) element;
+        arcTo.setRadiusX(radius);
+        arcTo.setRadiusY(radius);
+        arcTo.setX(x);
+        arcTo.setY(y);
+        arcTo.setLargeArcFlag(largeArcFlag);
+        arcTo.setSweepFlag(sweepFlag);
+    }
+}
@@ -0,0 +1,110 @@
+package com.fierydragon.components.level;
+
+import java.util.Arrays;
+
+import javafx.scene.shape.Circle;
+
+/**
+ * A TokenMove lists the legs a player character moves along, by tile and cave ID, for the BoardAnimator to play.
+ *
+ * A leg is either a straight line or an arc along the board path, walking tile by tile in one direction.
+ */
+public class TokenMove {
+    private final Circle token;
+
+    // Stop i starts leg i, tiles by their ID and caves as -1 - caveID
+    private int[] stops;
+
+    // 0 for a line, 1 for an arc through increasing tile IDs, -1 for an arc through decreasing ones
+    private int[] legDirections;
+    private int legCount;
+
+    private TokenMove(Circle token, int startStop) {
+        this.token = token;
+        this.stops = new int[4];
+        this.legDirections = new int[3];
+        this.stops[0] = startStop;
+        this.legCount = 0;
+    }
+
+    /**
+     * Starts a move on a tile.
+     *
+     * @param token the player character to move
+     * @param tileID the ID of the tile it starts on
+     * @return the move, without legs yet
+     */
+    public static TokenMove fromTile(Circle token, int tileID) {
+        return new TokenMove(token, tileID);
+    }
+
+    /**
+     * Starts a move in a cave.
+     *
+     * @param token the player character to move
+     * @param caveID the ID of the cave it starts in
+     * @return the move, without legs yet
+     */
+    public static TokenMove fromCave(Circle token, int caveID) {
+        return new TokenMove(token, -1 - caveID);
+    }
+
+    /**
+     * Adds a straight leg to a tile.
+     *
+     * @param tileID the ID of the tile
+     * @return this move
+     */
+    public TokenMove lineToTile(int tileID) {
+        return this.addLeg(tileID, 0);
+    }
+
+    /**
+     * Adds a straight leg to a cave.
+     *
+     * @param caveID the ID of the cave
+     * @return this move
+     */
+    public TokenMove lineToCave(int caveID) {
+        return this.addLeg(-1 - caveID, 0);
+    }
+
+    /**
+     * Adds a leg along the board path to a tile. The move must be on a tile.
+     *
+     * @param tileID the ID of the tile
+     * @param forward true to walk through increasing tile IDs
+     * @return this move
+     */
+    public TokenMove arcToTile(int tileID, boolean forward) {
+        return this.addLeg(tileID, forward ? 1 : -1);
+    }
+
+    private TokenMove addLeg(int stop, int direction) {
+        if(this.legCount + 1 == this.stops.length) {
+            this.stops = Arrays.copyOf(this.stops, this.stops.length * 2);
+            this.legDirections = Arrays.copyOf(this.legDirections, this.stops.length - 1);
+        }
+
+        this.legDirections[this.legCount] = direction;
+        this.legCount++;
+        this.stops[this.legCount] = stop;
+        return this;
+    }
+
+    Circle getToken() {
+        return this.token;
+    }
+
+    int getLegCount() {
+        return this.legCount;
+    }
+
+    int getStop(int index) {
+        return this.stops[index];
+    }
+
+    int getLegDirection(int leg) {
+        return this.legDirections[leg];
+    }
+}
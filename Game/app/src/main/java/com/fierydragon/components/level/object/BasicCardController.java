@@ -1,6 +1,6 @@
 package com.fierydragon.components.level.object;
 
-import com.fierydragon.components.enums.CardType;
+import com.fierydragon.components.engine.DragonCard;
 import com.fierydragon.core.level.GameLevel;
 
 
@@ -17,11 +17,11 @@ public class BasicCardController extends CardController{
      * Constructs a CardController object.
      *
      * @param gameLevel the game level to which this card belongs
-     * @param cardType  the type of the card
-     * @param cardValue the value of the card
+     * @param dragonCard the state of the card (type, value and flipped)
+     * @param cardID the index of the card in the game state
      */
-    public BasicCardController(GameLevel gameLevel, CardType cardType, int cardValue) {
-        super(gameLevel, cardType, cardValue);
+    public BasicCardController(GameLevel gameLevel, DragonCard dragonCard, int cardID) {
+        super(gameLevel, dragonCard, cardID);
     }
 
 
@@ -29,8 +29,8 @@ public class BasicCardController extends CardController{
      * Handles the card flip event and notifies the delegate if the card is flipped.
      */
     public void cardFlipped() {
-        if(this.flipped) {
-            this.delegate.handleCardAction(this.cardType, this.cardValue);
+        if(this.dragonCard.isFlipped()) {
+            this.delegate.handleCardAction(this.dragonCard.getCardType(), this.dragonCard.getCardValue());
         }
         CardController.transitionActive = false;
     }
@@ -0,0 +1,320 @@
+package com.fierydragon.components.level.object;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+
+import com.fierydragon.components.enums.CardType;
+import com.fierydragon.core.framework.ResourceLoader;
+import com.fierydragon.core.framework.TextureAtlas;
+
+import javafx.application.Platform;
+import javafx.geometry.Dimension2D;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+/**
+ * The CardAtlas packs the chit, cave and card back images of every card type into one TextureAtlas
+ * and looks up their viewports by card type and value.
+ *
+ * The images are decoded concurrently, one per core, and packed at the resolution bucket of the size they are
+ * displayed at, or at their natural size once the bucket is not smaller. The first atlas is preloaded while the
+ * main menu is shown. When the board is resized into another bucket, the atlas is packed again in the background
+ * and swapped in on the FX thread.
+ */
+public class CardAtlas {
+
+    /**
+     * The singleton instance of the CardAtlas.
+     */
+    public static final CardAtlas INSTANCE = new CardAtlas();
+
+    private static final String CARDBACK_PATH = "chit_back.png";
+    private static final String CAVE_FILE = "cave.png";
+    private static final int MAX_CARD_VALUE = 3;
+
+    // Resolution packed before the first board is laid out
+    private static final int DEFAULT_RESOLUTION = 128;
+
+    // Decoding is CPU bound, so one thread per core
+    private static final ExecutorService DECODE_EXECUTOR = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), (runnable) -> {
+        Thread thread = new Thread(runnable, "CardAtlas");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile TextureAtlas textureAtlas;
+    private CompletableFuture<Void> preloadFuture;
+
+    // Resolutions of the last request, and of the current atlas
+    private int requestedChitResolution;
+    private int requestedCaveResolution;
+    private int packedChitResolution;
+    private int packedCaveResolution;
+    private Runnable atlasChangeListener;
+
+    // Index 0 is the cave, then the chit of every card value
+    private final Map<CardType, Rectangle2D[]> viewports;
+    private Rectangle2D cardbackViewport;
+
+    private CardAtlas() {
+        this.viewports = new EnumMap<CardType, Rectangle2D[]>(CardType.class);
+        this.requestedChitResolution = CardAtlas.DEFAULT_RESOLUTION;
+        this.requestedCaveResolution = CardAtlas.DEFAULT_RESOLUTION;
+        this.packedChitResolution = CardAtlas.DEFAULT_RESOLUTION;
+        this.packedCaveResolution = CardAtlas.DEFAULT_RESOLUTION;
+    }
+
+    /**
+     * Starts decoding and packing the first atlas in the background, if it is not already.
+     * Drawing a card, tile or cave before it is done waits for it.
+     *
+     * @param progressListener called from the decoding threads with the fraction of images decoded, or null
+     * @return a future completed once the atlas is ready (the same future for every call)
+     */
+    public synchronized CompletableFuture<Void> preload(DoubleConsumer progressListener) {
+        if(this.preloadFuture == null) {
+            this.preloadFuture = CardAtlas.pack(CardAtlas.DEFAULT_RESOLUTION, CardAtlas.DEFAULT_RESOLUTION, progressListener).thenAccept(this::setTextureAtlas);
+        }
+        return this.preloadFuture;
+    }
+
+    /**
+     * Returns the current atlas, waiting for the preload if it is still running.
+     *
+     * @return the current atlas
+     */
+    private TextureAtlas getTextureAtlas() {
+        TextureAtlas textureAtlas = this.textureAtlas;
+        if(textureAtlas == null) {
+            this.preload(null).join();
+            textureAtlas = this.textureAtlas;
+        }
+        return textureAtlas;
+    }
+
+    /**
+     * Decodes every chit and the card back at one resolution, and every cave at another, concurrently, then packs them.
+     *
+     * @param chitResolution the resolution bucket of the chits, 0 for their natural size
+     * @param caveResolution the resolution bucket of the caves, 0 for their natural size
+     * @param progressListener called with the fraction of images decoded, or null
+     * @return a future completed with the packed atlas
+     */
+    private static CompletableFuture<TextureAtlas> pack(int chitResolution, int caveResolution, DoubleConsumer progressListener) {
+        Map<String, Boolean> caves = CardAtlas.getImages();
+        List<String> resourcePaths = new ArrayList<String>(caves.keySet());
+        List<CompletableFuture<Image>> decodedImages = new ArrayList<CompletableFuture<Image>>(resourcePaths.size());
+        AtomicInteger decodedCount = new AtomicInteger();
+
+        for(String resourcePath: resourcePaths) {
+            int resolution = caves.get(resourcePath) ? caveResolution : chitResolution;
+
+            // Never larger than the image itself
+            Dimension2D imageSize = ResourceLoader.ASSETS.getImageSize(resourcePath);
+            int size = resolution < Math.max(imageSize.getWidth(), imageSize.getHeight()) ? resolution : 0;
+
+            decodedImages.add(CompletableFuture.supplyAsync(() -> {
+                Image image = TextureAtlas.decodeImage(ResourceLoader.ASSETS, resourcePath, size);
+                if(progressListener != null) {
+                    progressListener.accept(decodedCount.incrementAndGet() / (double) resourcePaths.size());
+                }
+                return image;
+            }, CardAtlas.DECODE_EXECUTOR));
+        }
+
+        return CompletableFuture.allOf(decodedImages.toArray(new CompletableFuture<?>[0])).thenApply((ignored) -> {
+            Map<String, Image> images = new LinkedHashMap<String, Image>();
+            for(int i = 0; i < resourcePaths.size(); i++) {
+                images.put(resourcePaths.get(i), decodedImages.get(i).join());
+            }
+            return new TextureAtlas(images);
+        });
+    }
+
+    /**
+     * Lists the images packed into the atlas: the card back, then the cave and chits of every card type.
+     *
+     * @return whether each image is a cave, by resource path
+     */
+    private static Map<String, Boolean> getImages() {
+        Map<String, Boolean> images = new LinkedHashMap<String, Boolean>();
+        images.put(CardAtlas.CARDBACK_PATH, false);
+
+        for(CardType cardType: CardType.values()) {
+            for(int i = 0; i <= CardAtlas.MAX_CARD_VALUE; i++) {
+                String resourcePath = CardAtlas.getResourcePath(cardType, i);
+                if(ResourceLoader.ASSETS.hasResource(resourcePath)) {
+                    images.put(resourcePath, i == 0);
+                }
+            }
+        }
+        return images;
+    }
+
+    /**
+     * Returns the resolution bucket of the chits or of the caves at a displayed size, 0 (natural size)
+     * once the bucket is not smaller than the largest of them.
+     *
+     * @param displayedSize the size the images are displayed at, in device pixels
+     * @param caves true for the caves, false for the chits and the card back
+     * @return the resolution bucket
+     */
+    private static int getResolutionBucket(double displayedSize, boolean caves) {
+        double largestSize = 0;
+        for(Map.Entry<String, Boolean> image: CardAtlas.getImages().entrySet()) {
+            if(image.getValue() == caves) {
+                Dimension2D imageSize = ResourceLoader.ASSETS.getImageSize(image.getKey());
+                largestSize = Math.max(largestSize, Math.max(imageSize.getWidth(), imageSize.getHeight()));
+            }
+        }
+        return ResourceLoader.getResolutionBucket(displayedSize, largestSize);
+    }
+
+    /**
+     * Makes a packed atlas the current one and looks up its viewports.
+     *
+     * @param textureAtlas the packed atlas
+     */
+    private void setTextureAtlas(TextureAtlas textureAtlas) {
+        for(CardType cardType: CardType.values()) {
+            Rectangle2D[] cardTypeViewports = new Rectangle2D[CardAtlas.MAX_CARD_VALUE + 1];
+            for(int i = 0; i <= CardAtlas.MAX_CARD_VALUE; i++) {
+                cardTypeViewports[i] = textureAtlas.getViewport(CardAtlas.getResourcePath(cardType, i));
+            }
+            this.viewports.put(cardType, cardTypeViewports);
+        }
+        this.cardbackViewport = textureAtlas.getViewport(CardAtlas.CARDBACK_PATH);
+
+        // Set last, so the viewports are visible to any thread that sees the atlas
+        this.textureAtlas = textureAtlas;
+    }
+
+    /**
+     * Returns the resource path of the chit of a card value, or of the cave for value 0.
+     *
+     * @param cardType the card type
+     * @param index the card value, 0 for the cave
+     * @return the resource path
+     */
+    private static String getResourcePath(CardType cardType, int index) {
+        return cardType.getResourcePath() + (index == 0 ? CardAtlas.CAVE_FILE : "chit_" + index + ".png");
+    }
+
+    /**
+     * Sets the listener called on the FX thread after a new atlas was swapped in, to point every view at it.
+     * Only the board on screen listens.
+     *
+     * @param atlasChangeListener the listener
+     */
+    public void setAtlasChangeListener(Runnable atlasChangeListener) {
+        this.atlasChangeListener = atlasChangeListener;
+    }
+
+    /**
+     * Requests the atlas at the resolution the chits and caves are displayed at. Must be called on the FX thread.
+     * Nothing is packed unless one of the sizes is in another resolution bucket than the last request.
+     * If packing fails, the next request at the same buckets tries again.
+     *
+     * @param chitSize the largest size a chit is displayed at, in device pixels
+     * @param caveSize the size a cave is displayed at, in device pixels
+     */
+    public void requestResolution(double chitSize, double caveSize) {
+        int chitResolution = CardAtlas.getResolutionBucket(chitSize, false);
+        int caveResolution = CardAtlas.getResolutionBucket(caveSize, true);
+
+        if(chitResolution == this.requestedChitResolution && caveResolution == this.requestedCaveResolution) {
+            return;
+        }
+        this.requestedChitResolution = chitResolution;
+        this.requestedCaveResolution = caveResolution;
+
+        CardAtlas.pack(chitResolution, caveResolution, null).whenCompleteAsync((textureAtlas, exception) -> {
+            // Superseded by a later resize while packing
+            if(chitResolution != this.requestedChitResolution || caveResolution != this.requestedCaveResolution) {
+                return;
+            }
+
+            // The current atlas stays, and is what the next request is compared to
+            if(exception != null) {
+                exception.printStackTrace();
+                this.requestedChitResolution = this.packedChitResolution;
+                this.requestedCaveResolution = this.packedCaveResolution;
+                return;
+            }
+
+            this.packedChitResolution = chitResolution;
+            this.packedCaveResolution = caveResolution;
+            this.setTextureAtlas(textureAtlas);
+            if(this.atlasChangeListener != null) {
+                this.atlasChangeListener.run();
+            }
+        }, Platform::runLater);
+    }
+
+    /**
+     * Returns the atlas image every card, tile and cave view shows a region of.
+     *
+     * @return the atlas image
+     */
+    public Image getImage() {
+        return this.getTextureAtlas().getImage();
+    }
+
+    /**
+     * Creates a view of the atlas showing the given region.
+     *
+     * @param viewport the region to show
+     * @return the image view
+     */
+    public ImageView createImageView(Rectangle2D viewport) {
+        ImageView imageView = new ImageView(this.getTextureAtlas().getImage());
+        imageView.setViewport(viewport);
+        return imageView;
+    }
+
+    /**
+     * Returns the region of the chit of a card. Negative (pirate dragon) values share the chit of their magnitude.
+     *
+     * @param cardType the card type
+     * @param cardValue the card value
+     * @return the viewport of the chit, or null if there is no chit for the value
+     */
+    public Rectangle2D getCardViewport(CardType cardType, int cardValue) {
+        int index = Math.abs(cardValue);
+        if(index == 0 || index > CardAtlas.MAX_CARD_VALUE) {
+            return null;
+        }
+        this.getTextureAtlas();
+        return this.viewports.get(cardType)[index];
+    }
+
+    /**
+     * Returns the region of the cave of a card type.
+     *
+     * @param cardType the card type
+     * @return the viewport of the cave, or null if the card type has no cave
+     */
+    public Rectangle2D getCaveViewport(CardType cardType) {
+        this.getTextureAtlas();
+        return this.viewports.get(cardType)[0];
+    }
+
+    /**
+     * Returns the region of the card back.
+     *
+     * @return the viewport of the card back
+     */
+    public Rectangle2D getCardbackViewport() {
+        this.getTextureAtlas();
+        return this.cardbackViewport;
+    }
+}
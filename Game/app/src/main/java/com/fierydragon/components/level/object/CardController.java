@@ -2,9 +2,11 @@ package com.fierydragon.components.level.object;
 
 import java.util.Map;
 
-import com.fierydragon.components.enums.CardType;
+import com.fierydragon.components.engine.DragonCard;
 import com.fierydragon.components.interfaces.ICardDelegate;
-import com.fierydragon.core.framework.ResourceLoader;
+import com.fierydragon.core.interfaces.ISaveReader;
+import com.fierydragon.core.interfaces.ISaveWriter;
+import com.fierydragon.core.interfaces.IStateSaveable;
 import com.fierydragon.core.level.GameLevel;
 import com.fierydragon.core.level.GameObject;
 
@@ -12,7 +14,7 @@ import javafx.animation.Interpolator;
 import javafx.animation.PauseTransition;
 import javafx.animation.RotateTransition;
 import javafx.geometry.Point3D;
-import javafx.scene.image.Image;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.image.ImageView;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
@@ -25,23 +27,18 @@ import javafx.util.Duration;
  * @author Chang Yi Zhong
  * @author Lim Hung Xuan
  */
-public abstract class CardController extends GameObject {
+public abstract class CardController extends GameObject implements IStateSaveable {
     static boolean transitionActive = false;
 
-    private final String cardbackPath = "chit_back.png";
-
     private Circle cardShape;
-    CardType cardType;
-    int cardValue;
+    DragonCard dragonCard;
+    private final int cardID;
 
-    public Image cardbackImage;
-    public Image cardImage;
+    // Both sides are regions of the shared CardAtlas image, flipping only switches the viewport
     public ImageView cardImageView;
 
     ICardDelegate delegate;
 
-    boolean flipped = false;
-
     // ===============
     // Flip over anim attributes
     private RotateTransition rotate1;
@@ -53,21 +50,20 @@ public abstract class CardController extends GameObject {
      * Constructs a CardController object.
      * 
      * @param gameLevel the game level to which this card belongs
-     * @param cardType the type of the card
-     * @param cardValue the value of the card
+     * @param dragonCard the state of the card (type, value and flipped)
+     * @param cardID the index of the card in the game state
      */
-    public CardController(GameLevel gameLevel, CardType cardType, int cardValue) {
+    public CardController(GameLevel gameLevel, DragonCard dragonCard, int cardID) {
         super(gameLevel);
 
-        this.cardType = cardType;
-        this.cardValue = cardValue;
-
-        this.cardbackImage = new Image(ResourceLoader.ASSETS.getPath() + this.cardbackPath);
-        this.cardImage = new Image(ResourceLoader.ASSETS.getPath() + this.cardType.getResourcePath() + "chit" + "_" + Math.abs(this.cardValue) + ".png");
+        this.dragonCard = dragonCard;
+        this.cardID = cardID;
 
-        this.cardImageView = new ImageView(this.cardbackImage);
+        this.cardImageView = CardAtlas.INSTANCE.createImageView(CardAtlas.INSTANCE.getCardbackViewport());
         // TODO: comment when not used for testing purposes
-        // this.cardImageView = new ImageView(this.cardImage);
+        // this.cardImageView = CardAtlas.INSTANCE.createImageView(this.getCardViewport());
+
+        this.cardImageView.setOnMouseClicked((e) -> handleCardClicked(e));
 
         // ===============
         // Flip over anim setup
@@ -98,12 +94,11 @@ public abstract class CardController extends GameObject {
 
     /**
      * Sets the bounds of the card using a Circle shape.
+     * Calling it again (e.g. after a resize) repositions the existing card image.
      * 
      * @param cardShape the Circle representing the card's bounds
      */
     public void setBounds(Circle cardShape) {
-        this.objectRoot.getChildren().clear();
-
         this.cardShape = cardShape;
         
         this.cardImageView.setX(this.cardShape.getCenterX() - this.cardShape.getRadius());
@@ -111,9 +106,18 @@ public abstract class CardController extends GameObject {
         this.cardImageView.setFitWidth(this.cardShape.getRadius() * 2);
         this.cardImageView.setFitHeight(this.cardShape.getRadius() * 2);
 
-        this.cardImageView.setOnMouseClicked((e) -> handleCardClicked(e));
+        if(this.objectRoot.getChildren().isEmpty()) {
+            this.objectRoot.getChildren().add(this.cardImageView);
+        }
+    }
 
-        this.objectRoot.getChildren().add(this.cardImageView);
+    /**
+     * Returns the region of the CardAtlas showing the face of the card.
+     *
+     * @return the viewport of the card's chit
+     */
+    private Rectangle2D getCardViewport() {
+        return CardAtlas.INSTANCE.getCardViewport(this.dragonCard.getCardType(), this.dragonCard.getCardValue());
     }
 
     /**
@@ -131,9 +135,24 @@ public abstract class CardController extends GameObject {
      * @param e the mouse event triggered by clicking the card
      */
     private void handleCardClicked(MouseEvent e) {
-        if(e.getButton() == MouseButton.PRIMARY && !this.flipped && !CardController.transitionActive) {
-            if(!CardController.transitionActive) {
-                CardController.transitionActive = true;
+        if(e.getButton() == MouseButton.PRIMARY && this.delegate.acceptsCardClicks()) {
+            this.playFlip();
+        }
+    }
+
+    /**
+     * Plays the flip animation, then resolves the card through the delegate, as a click would.
+     * In fast play the card is turned and resolved at once instead.
+     * Does nothing if the card is face up or another card is being flipped.
+     */
+    public void playFlip() {
+        if(!this.dragonCard.isFlipped() && !CardController.transitionActive) {
+            CardController.transitionActive = true;
+
+            if(this.delegate.isFastPlay()) {
+                this.switchSide();
+                this.cardFlipped();
+            } else {
                 this.rotate1.play();
             }
         }
@@ -143,28 +162,34 @@ public abstract class CardController extends GameObject {
      * Flips the card back to its back side.
      */
     public void flipBack() {
-        this.cardImageView.setImage(this.cardbackImage);
-        this.flipped = false;
+        this.cardImageView.setViewport(CardAtlas.INSTANCE.getCardbackViewport());
+        this.dragonCard.setFlipped(false);
     }
 
     public void flipOver() {
-        this.cardImageView.setImage(this.cardImage);
-        this.flipped = true;
+        this.cardImageView.setViewport(this.getCardViewport());
+        this.dragonCard.setFlipped(true);
     }
 
     /**
      * Performs half of the flip animation, switching the card's image.
      */
     public void cardHalfFlip() {
-        if(!this.flipped) {
-            this.cardImageView.setImage(this.cardImage);
-            this.flipped = true;
+        this.switchSide();
+        this.rotate2.play();
+    }
+
+    /**
+     * Switches the card's image to its other side. Turning the card face up is reported to the delegate.
+     */
+    private void switchSide() {
+        if(!this.dragonCard.isFlipped()) {
+            this.cardImageView.setViewport(this.getCardViewport());
+            this.delegate.handleCardRevealed(this.cardID);
         } else {
-            this.cardImageView.setImage(this.cardbackImage);
-            this.flipped = false;
+            this.cardImageView.setViewport(CardAtlas.INSTANCE.getCardbackViewport());
+            this.dragonCard.setFlipped(false);
         }
-
-        this.rotate2.play();
     }
 
     /**
@@ -181,8 +206,31 @@ public abstract class CardController extends GameObject {
      */
     @Override
     public void invokeSave(Map<String, String> properties, String prefix) {
-        properties.put(prefix + ".cardType", this.cardType.toString());
-        properties.put(prefix + ".cardValue", String.valueOf(this.cardValue));
-        properties.put(prefix + ".flipped", String.valueOf(this.flipped));
+        this.dragonCard.invokeSave(properties, prefix);
+    }
+
+    @Override
+    public void writeState(ISaveWriter writer) {
+        this.dragonCard.writeState(writer);
+    }
+
+    /**
+     * Restores the card's flipped state and shows the matching side.
+     *
+     * @param reader the reader to read the fields from
+     */
+    @Override
+    public void readState(ISaveReader reader) {
+        this.dragonCard.readState(reader);
+        this.refreshImage();
+    }
+
+    /**
+     * Shows the side of the card matching its flipped state, after the state was changed without an animation
+     * or the CardAtlas was packed again.
+     */
+    public void refreshImage() {
+        this.cardImageView.setImage(CardAtlas.INSTANCE.getImage());
+        this.cardImageView.setViewport(this.dragonCard.isFlipped() ? this.getCardViewport() : CardAtlas.INSTANCE.getCardbackViewport());
     }
 }
@@ -1,6 +1,6 @@
 package com.fierydragon.components.level.object;
 
-import com.fierydragon.components.enums.CardType;
+import com.fierydragon.components.engine.DragonCard;
 import com.fierydragon.core.level.GameLevel;
 
 
@@ -12,19 +12,19 @@ public class CardFactory {
 
 
     /**
-     * Creates a CardController based on the given cardType and cardValue.
+     * Creates a CardController based on the type of the given dragon card.
      *
      * @param gameLevel the game level associated with the card
-     * @param cardType the type of the card
-     * @param cardValue the value of the card
+     * @param dragonCard the state of the card (type, value and flipped)
+     * @param cardID the index of the card in the game state
      * @return a {@code CardController} corresponding to the specified card type and value
      */
-    public static CardController createCardController(GameLevel gameLevel, CardType cardType, int cardValue ) {
-        switch (cardType) {
+    public static CardController createCardController(GameLevel gameLevel, DragonCard dragonCard, int cardID) {
+        switch (dragonCard.getCardType()) {
             case SWAP:
-                return new SpecialCardController(gameLevel,cardType,cardValue);
+                return new SpecialCardController(gameLevel, dragonCard, cardID);
             default:
-                return new BasicCardController(gameLevel,cardType,cardValue);
+                return new BasicCardController(gameLevel, dragonCard, cardID);
         }
     }
 }
@@ -2,24 +2,25 @@ package com.fierydragon.components.level.object;
 
 import java.util.Map;
 
+import com.fierydragon.components.engine.GameState;
 import com.fierydragon.components.enums.CardType;
+import com.fierydragon.core.interfaces.ISaveReader;
+import com.fierydragon.core.interfaces.ISaveWriter;
+import com.fierydragon.core.interfaces.IStateSaveable;
 import com.fierydragon.core.level.GameLevel;
 import com.fierydragon.core.level.GameObject;
 
 import javafx.scene.shape.Circle;
 
 /**
- * The PlayerController class manages the player's position and state within the game level.
+ * The PlayerController class renders a player within the game level. The player's position is held by the GameState.
  * 
  * @author Chang Yi Zhong
  * @author Lim Hung Xuan
  */
-public class PlayerController extends GameObject {
-    private int caveTileID;
-    private int currentTileID;
-    private CardType currentTileType;
-    private int tilesLeft;
-    private int currentCaveID;
+public class PlayerController extends GameObject implements IStateSaveable {
+    private final GameState gameState;
+    private final int playerID;
 
     private Circle playerCharacter;
 
@@ -27,26 +28,22 @@ public class PlayerController extends GameObject {
      * Constructs a PlayerController object.
      *
      * @param gameLevel the game level to which the player belongs
-     * @param caveType the type of the starting cave
-     * @param caveTileID the ID of the starting cave tile
-     * @param totalTiles the total number of tiles the player can move through
+     * @param gameState the game state holding the player's position
+     * @param playerID the ID of the player in the game state
      */
-    public PlayerController(GameLevel gameLevel, CardType caveType, int caveTileID, int totalTiles,int currentCaveID) {
+    public PlayerController(GameLevel gameLevel, GameState gameState, int playerID) {
         super(gameLevel);
-        this.tilesLeft = totalTiles + 1;
-        this.caveTileID = caveTileID;
-        this.currentCaveID = currentCaveID;
-        this.currentTileID = 0;
-        this.currentTileType = caveType;
+        this.gameState = gameState;
+        this.playerID = playerID;
     }
 
     /**
-     * Sets the current tile ID the player is on.
+     * Gets the ID of the player in the game state.
      *
-     * @param tileID the ID of the current tile
+     * @return the player ID
      */
-    public void setCurrentTileID(int tileID) {
-        this.currentTileID = tileID;
+    public int getPlayerID() {
+        return this.playerID;
     }
 
     /**
@@ -55,7 +52,7 @@ public class PlayerController extends GameObject {
      * @return the ID of the current tile
      */
     public int getCurrentTileID() {
-        return this.currentTileID;
+        return this.gameState.getCurrentTileID(this.playerID);
     }
 
     /**
@@ -64,23 +61,10 @@ public class PlayerController extends GameObject {
      * @return the ID of the cave tile
      */
     public int getCaveTileID() {
-        return this.caveTileID;
+        return this.gameState.getCaveTileID(this.playerID);
     }
 
-    public void setCaveTileID(int caveTileID){this.caveTileID = caveTileID;}
-
-    public int getCurrentCaveID(){return  this.currentCaveID;}
-
-    public void setCurrentCaveID(int currentCaveID){this.currentCaveID = currentCaveID;}
-
-    /**
-     * Sets the type of the current tile the player is on.
-     *
-     * @param tileType the type of the current tile
-     */
-    public void setCurrentTileType(CardType tileType) {
-        this.currentTileType = tileType;
-    }
+    public int getCurrentCaveID(){return this.gameState.getCurrentCaveID(this.playerID);}
 
     /**
      * Gets the type of the current tile the player is on.
@@ -88,16 +72,7 @@ public class PlayerController extends GameObject {
      * @return the type of the current tile
      */
     public CardType getCurrentTileType() {
-        return this.currentTileType;
-    }
-
-    /**
-     * Sets the number of tiles left for the player to move through.
-     *
-     * @param tilesLeft the number of tiles left
-     */
-    public void setTilesLeft(int tilesLeft) {
-        this.tilesLeft = tilesLeft;
+        return this.gameState.getCurrentTileType(this.playerID);
     }
 
     /**
@@ -106,7 +81,7 @@ public class PlayerController extends GameObject {
      * @return the number of tiles left
      */
     public int getTilesLeft() {
-        return this.tilesLeft;
+        return this.gameState.getTilesLeft(this.playerID);
     }
 
     /**
@@ -121,10 +96,16 @@ public class PlayerController extends GameObject {
     /**
      * Sets the bounds of the player's character using a Circle shape.
      *
+     * Passing the Circle already in use keeps the existing node, which the caller repositions.
+     *
      * @param playerCharacter the Circle representing the player's character
      */
     @Override
     public void setBounds(Circle playerCharacter) {
+        if(this.playerCharacter == playerCharacter) {
+            return;
+        }
+
         this.objectRoot.getChildren().clear();
 
         this.playerCharacter = playerCharacter;
@@ -134,9 +115,16 @@ public class PlayerController extends GameObject {
 
     @Override
     public void invokeSave(Map<String, String> properties, String prefix) {
-        properties.put(prefix + ".caveTileID", String.valueOf(this.caveTileID));
-        properties.put(prefix + ".currentTileID", String.valueOf(this.currentTileID));
-        properties.put(prefix + ".currentTileType", this.currentTileType.toString());
-        properties.put(prefix + ".tilesLeft", String.valueOf(this.tilesLeft));
+        this.gameState.invokePlayerSave(this.playerID, properties, prefix);
+    }
+
+    @Override
+    public void writeState(ISaveWriter writer) {
+        this.gameState.writePlayerState(this.playerID, writer);
+    }
+
+    @Override
+    public void readState(ISaveReader reader) {
+        this.gameState.readPlayerState(this.playerID, reader);
     }
 }
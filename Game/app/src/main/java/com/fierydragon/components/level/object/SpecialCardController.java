@@ -1,6 +1,6 @@
 package com.fierydragon.components.level.object;
 
-import com.fierydragon.components.enums.CardType;
+import com.fierydragon.components.engine.DragonCard;
 import com.fierydragon.core.level.GameLevel;
 
 
@@ -16,11 +16,11 @@ public class SpecialCardController extends CardController{
      * Constructs a CardController object.
      *
      * @param gameLevel the game level to which this card belongs
-     * @param cardType  the type of the card
-     * @param cardValue the value of the card
+     * @param dragonCard the state of the card (type, value and flipped)
+     * @param cardID the index of the card in the game state
      */
-    public SpecialCardController(GameLevel gameLevel, CardType cardType, int cardValue) {
-        super(gameLevel, cardType, cardValue);
+    public SpecialCardController(GameLevel gameLevel, DragonCard dragonCard, int cardID) {
+        super(gameLevel, dragonCard, cardID);
     }
 
     /**
@@ -28,7 +28,7 @@ public class SpecialCardController extends CardController{
      */
     @Override
     public void cardFlipped() {
-        if(this.flipped) {
+        if(this.dragonCard.isFlipped()) {
             this.delegate.handleSwapCardAction();
         }
         CardController.transitionActive = false;
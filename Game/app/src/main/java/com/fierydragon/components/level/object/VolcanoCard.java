@@ -3,8 +3,12 @@ package com.fierydragon.components.level.object;
 import java.util.ArrayList;
 import java.util.Map;
 
+import com.fierydragon.components.engine.GameState;
 import com.fierydragon.components.enums.CardType;
+import com.fierydragon.core.interfaces.ISaveReader;
+import com.fierydragon.core.interfaces.ISaveWriter;
 import com.fierydragon.core.interfaces.ISaveable;
+import com.fierydragon.core.interfaces.IStateSaveable;
 
 
 /**
@@ -13,7 +17,7 @@ import com.fierydragon.core.interfaces.ISaveable;
  *
  * @author : Lim Hung Xuan
  */
-public class VolcanoCard implements ISaveable {
+public class VolcanoCard implements ISaveable, IStateSaveable {
     private ArrayList<CardType> tileTypes;
 
 
@@ -65,4 +69,28 @@ public class VolcanoCard implements ISaveable {
             properties.put(key, this.tileTypes.get(i).toString());
         }
     }
+
+    /**
+     * Writes the tile codes of this VolcanoCard.
+     *
+     * @param writer the writer to write the fields to
+     */
+    @Override
+    public void writeState(ISaveWriter writer) {
+        for(int i = 0; i < this.tileTypes.size(); i++) {
+            writer.writeByte(GameState.encode(this.tileTypes.get(i)));
+        }
+    }
+
+    /**
+     * Restores the tile types of this VolcanoCard, keeping its number of tiles.
+     *
+     * @param reader the reader to read the fields from
+     */
+    @Override
+    public void readState(ISaveReader reader) {
+        for(int i = 0; i < this.tileTypes.size(); i++) {
+            this.tileTypes.set(i, GameState.decode(reader.readByte()));
+        }
+    }
 }
@@ -0,0 +1,198 @@
+package com.fierydragon.components.simulation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.fierydragon.components.TurnController;
+import com.fierydragon.components.engine.BinarySaveCodec;
+import com.fierydragon.components.engine.GameSetup;
+import com.fierydragon.components.engine.GameState;
+import com.fierydragon.components.engine.MoveResult;
+import com.fierydragon.components.engine.RulesEngine;
+import com.fierydragon.components.enums.MoveType;
+import com.fierydragon.components.interfaces.IMovePolicy;
+import com.fierydragon.core.framework.ByteBufferSaveWriter;
+import com.fierydragon.core.framework.SaveArchive;
+
+/**
+ * The GameSimulator class plays complete headless games of a GameSetup with the RulesEngine,
+ * one move policy per seat, and runs batches of games in parallel on a fork/join pool.
+ *
+ * Game i of a batch is played from its own seed, derived from the simulator's seed and i only, so a batch gives
+ * the same games whatever the thread count and any single game can be replayed from its seed.
+ *
+ * With an archive set, the final state of every game is saved to it as a binary save.
+ */
+public class GameSimulator {
+    private final GameSetup gameSetup;
+    private final IMovePolicy[] seatPolicies;
+    private final int maxFlips;
+    private final long seed;
+
+    // Archive of the final states, null when games are not archived
+    private SaveArchive archive;
+    private final ThreadLocal<ByteBufferSaveWriter> archiveWriter = ThreadLocal.withInitial(() -> new ByteBufferSaveWriter(1024));
+
+    // Odd constant spreading consecutive game indices over the seed space (golden ratio, as in SplittableRandom)
+    private static final long GAME_SEED_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Constructs a GameSimulator with a random seed.
+     *
+     * @param gameSetup the configuration of every simulated game
+     * @param seatPolicies the move policy of each seat, one per player
+     * @param maxFlips the number of flips after which a game is stopped as unfinished
+     */
+    public GameSimulator(GameSetup gameSetup, IMovePolicy[] seatPolicies, int maxFlips) {
+        this(gameSetup, seatPolicies, maxFlips, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Constructs a GameSimulator.
+     *
+     * @param gameSetup the configuration of every simulated game
+     * @param seatPolicies the move policy of each seat, one per player
+     * @param maxFlips the number of flips after which a game is stopped as unfinished
+     * @param seed the seed every game seed of a batch is derived from
+     */
+    public GameSimulator(GameSetup gameSetup, IMovePolicy[] seatPolicies, int maxFlips, long seed) {
+        if(seatPolicies.length != gameSetup.getPlayerCount()) {
+            throw new IllegalArgumentException("Expected " + gameSetup.getPlayerCount() + " move policies, got " + seatPolicies.length);
+        }
+
+        this.gameSetup = gameSetup;
+        this.seatPolicies = seatPolicies;
+        this.maxFlips = maxFlips;
+        this.seed = seed;
+    }
+
+    /**
+     * Sets the archive the final state of every game is saved to.
+     *
+     * @param archive the archive, or null to stop archiving
+     */
+    public void setArchive(SaveArchive archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Plays a batch of games on the common fork/join pool.
+     *
+     * @param gameCount the number of games to play
+     * @return the statistics of the batch
+     */
+    public SimulationResult run(int gameCount) {
+        return this.run(gameCount, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Plays a batch of games on the given fork/join pool.
+     *
+     * @param gameCount the number of games to play
+     * @param pool the pool running the games
+     * @return the statistics of the batch
+     */
+    public SimulationResult run(int gameCount, ForkJoinPool pool) {
+        return pool.invoke(new SimulationTask(this, 0, gameCount));
+    }
+
+    /**
+     * Gets the seed of a game of a batch.
+     *
+     * @param gameIndex the index of the game in the batch
+     * @return the game seed
+     */
+    public long getGameSeed(int gameIndex) {
+        return new SplittableRandom(this.seed + gameIndex * GameSimulator.GAME_SEED_GAMMA).nextLong();
+    }
+
+    /**
+     * Plays a single game to the end (or until maxFlips) and records it. The same seed always plays the same game.
+     *
+     * @param gameSeed the seed the game is set up and played from
+     * @param result the result to record the game in
+     */
+    public void playGame(long gameSeed, SimulationResult result) {
+        SplittableRandom random = new SplittableRandom(gameSeed);
+
+        TurnController turnController = new TurnController(this.gameSetup.getPlayerCount());
+        GameState gameState = this.gameSetup.createGameState(turnController, random.nextLong());
+        RulesEngine rulesEngine = new RulesEngine(gameState);
+
+        int turns = 1;
+        int flips = 0;
+        int swapCards = 0;
+
+        while(flips < this.maxFlips) {
+            // Every card flipped without the turn ending, so there is nothing left to pick
+            if(gameState.getFaceDownCardCount() == 0) {
+                rulesEngine.nextTurn();
+                turns++;
+                continue;
+            }
+
+            int playerID = turnController.getTurnPlayerID();
+            int cardID = this.seatPolicies[playerID].chooseCard(gameState, playerID, random);
+
+            MoveResult moveResult = rulesEngine.flipCard(cardID);
+            flips++;
+
+            if(moveResult.getMoveType() == MoveType.SWAP_CARD) {
+                swapCards++;
+            }
+            if(moveResult.isWin()) {
+                result.recordWin(playerID, turns, flips, swapCards);
+                this.archiveGame(gameState);
+                return;
+            }
+            if(moveResult.isTurnEnded()) {
+                turns++;
+            }
+        }
+
+        result.recordUnfinished(gameSeed, turns, flips, swapCards);
+        this.archiveGame(gameState);
+    }
+
+    /**
+     * Saves the final state of a game to the archive, if one is set.
+     *
+     * @param gameState the state of the game
+     */
+    private void archiveGame(GameState gameState) {
+        if(this.archive == null) {
+            return;
+        }
+
+        ByteBufferSaveWriter writer = this.archiveWriter.get();
+        writer.clear();
+        BinarySaveCodec.writeSave(gameState, writer);
+
+        try {
+            this.archive.write(writer.getBuffer());
+        } catch(IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the seed every game seed of a batch is derived from.
+     *
+     * @return the simulator seed
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * Gets the configuration of the simulated games.
+     *
+     * @return the game setup
+     */
+    public GameSetup getGameSetup() {
+        return this.gameSetup;
+    }
+}
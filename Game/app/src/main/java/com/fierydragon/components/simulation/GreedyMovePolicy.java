@@ -0,0 +1,62 @@
+package com.fierydragon.components.simulation;
+
+import java.util.random.RandomGenerator;
+
+import com.fierydragon.components.engine.DragonCard;
+import com.fierydragon.components.engine.GameState;
+import com.fierydragon.components.enums.CardType;
+import com.fierydragon.components.interfaces.IMovePolicy;
+
+/**
+ * Move policy that can see the face of every dragon card and flips the one moving the player furthest.
+ *
+ * It plays with perfect information, so it gives an upper bound for how much a deck favours skilled players.
+ */
+public class GreedyMovePolicy implements IMovePolicy {
+    // Score of a card that ends the turn without moving
+    private static final double PASS_SCORE = -0.5;
+
+    @Override
+    public int chooseCard(GameState gameState, int playerID, RandomGenerator random) {
+        int bestCardID = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+
+        for(int i = 0; i < gameState.getDragonCardCount(); i++) {
+            DragonCard card = gameState.getDragonCard(i);
+
+            if(!card.isFlipped()) {
+                // Random tie break so equal cards are not always taken in deck order
+                double score = this.scoreCard(gameState, playerID, card) + 0.01 * random.nextDouble();
+
+                if(score > bestScore) {
+                    bestScore = score;
+                    bestCardID = i;
+                }
+            }
+        }
+        return bestCardID;
+    }
+
+    /**
+     * Scores a card by the number of tiles it moves the player forward.
+     *
+     * @param gameState the state of the game
+     * @param playerID the ID of the player
+     * @param card the card to score
+     * @return the score, higher is better
+     */
+    private double scoreCard(GameState gameState, int playerID, DragonCard card) {
+        int tilesLeft = gameState.getTilesLeft(playerID);
+
+        if(card.getCardType() == CardType.SWAP) {
+            return 0.0;
+        }
+        if(card.getCardValue() < 0) {
+            return gameState.getCurrentTileID(playerID) == 0 ? GreedyMovePolicy.PASS_SCORE : card.getCardValue();
+        }
+        if(card.getCardType() == gameState.getCurrentTileType(playerID) && card.getCardValue() <= tilesLeft) {
+            return card.getCardValue() == tilesLeft ? Double.MAX_VALUE : card.getCardValue();
+        }
+        return GreedyMovePolicy.PASS_SCORE;
+    }
+}
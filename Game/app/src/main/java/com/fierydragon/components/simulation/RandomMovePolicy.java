@@ -0,0 +1,22 @@
+package com.fierydragon.components.simulation;
+
+import java.util.random.RandomGenerator;
+
+import com.fierydragon.components.engine.GameState;
+import com.fierydragon.components.interfaces.IMovePolicy;
+
+/**
+ * Move policy flipping a uniformly random face down dragon card, like a player with no memory.
+ */
+public class RandomMovePolicy implements IMovePolicy {
+    @Override
+    public int chooseCard(GameState gameState, int playerID, RandomGenerator random) {
+        int pick = random.nextInt(gameState.getFaceDownCardCount());
+        for(int i = 0; i < gameState.getDragonCardCount(); i++) {
+            if(!gameState.getDragonCard(i).isFlipped() && pick-- == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
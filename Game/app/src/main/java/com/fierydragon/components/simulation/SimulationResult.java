@@ -0,0 +1,174 @@
+package com.fierydragon.components.simulation;
+
+/**
+ * The SimulationResult class accumulates the statistics of a batch of simulated games.
+ *
+ * A result is filled by a single thread and merged with the results of other threads afterwards.
+ */
+public class SimulationResult {
+    private final long[] seatWins;
+    private long gamesPlayed;
+    private long unfinishedGames;
+    private long totalTurns;
+    private long totalFlips;
+    private long totalSwapCards;
+    private long unfinishedGameSeed;
+
+    /**
+     * Constructs an empty SimulationResult.
+     *
+     * @param playerCount the number of seats in the simulated games
+     */
+    public SimulationResult(int playerCount) {
+        this.seatWins = new long[playerCount];
+    }
+
+    /**
+     * Records a finished game.
+     *
+     * @param winnerID the seat of the winning player
+     * @param turns the number of turns played
+     * @param flips the number of dragon cards flipped
+     * @param swapCards the number of swap cards that swapped two players
+     */
+    public void recordWin(int winnerID, int turns, int flips, int swapCards) {
+        this.seatWins[winnerID]++;
+        this.record(turns, flips, swapCards);
+    }
+
+    /**
+     * Records a game stopped before anybody won.
+     *
+     * @param gameSeed the seed of the game, kept so the game can be replayed
+     * @param turns the number of turns played
+     * @param flips the number of dragon cards flipped
+     * @param swapCards the number of swap cards that swapped two players
+     */
+    public void recordUnfinished(long gameSeed, int turns, int flips, int swapCards) {
+        if(this.unfinishedGames == 0) {
+            this.unfinishedGameSeed = gameSeed;
+        }
+        this.unfinishedGames++;
+        this.record(turns, flips, swapCards);
+    }
+
+    private void record(int turns, int flips, int swapCards) {
+        this.gamesPlayed++;
+        this.totalTurns += turns;
+        this.totalFlips += flips;
+        this.totalSwapCards += swapCards;
+    }
+
+    /**
+     * Adds the statistics of another result to this one.
+     *
+     * @param other the result to merge
+     * @return this result
+     */
+    public SimulationResult merge(SimulationResult other) {
+        for(int i = 0; i < this.seatWins.length; i++) {
+            this.seatWins[i] += other.seatWins[i];
+        }
+        if(this.unfinishedGames == 0) {
+            this.unfinishedGameSeed = other.unfinishedGameSeed;
+        }
+        this.gamesPlayed += other.gamesPlayed;
+        this.unfinishedGames += other.unfinishedGames;
+        this.totalTurns += other.totalTurns;
+        this.totalFlips += other.totalFlips;
+        this.totalSwapCards += other.totalSwapCards;
+        return this;
+    }
+
+    /**
+     * Gets the number of simulated games.
+     *
+     * @return the number of games
+     */
+    public long getGamesPlayed() {
+        return this.gamesPlayed;
+    }
+
+    /**
+     * Gets the number of games stopped before anybody won.
+     *
+     * @return the number of unfinished games
+     */
+    public long getUnfinishedGames() {
+        return this.unfinishedGames;
+    }
+
+    /**
+     * Gets the seed of one of the unfinished games, to replay it with GameSimulator.playGame.
+     *
+     * @return the game seed, only meaningful if there are unfinished games
+     */
+    public long getUnfinishedGameSeed() {
+        return this.unfinishedGameSeed;
+    }
+
+    /**
+     * Gets the number of games a seat won.
+     *
+     * @param seatID the seat (player ID)
+     * @return the number of wins
+     */
+    public long getWins(int seatID) {
+        return this.seatWins[seatID];
+    }
+
+    /**
+     * Gets the fraction of games a seat won.
+     *
+     * @param seatID the seat (player ID)
+     * @return the win rate between 0 and 1
+     */
+    public double getWinRate(int seatID) {
+        return this.gamesPlayed == 0 ? 0.0 : (double) this.seatWins[seatID] / this.gamesPlayed;
+    }
+
+    /**
+     * Gets the mean number of turns per game.
+     *
+     * @return the mean game length in turns
+     */
+    public double getMeanTurns() {
+        return this.gamesPlayed == 0 ? 0.0 : (double) this.totalTurns / this.gamesPlayed;
+    }
+
+    /**
+     * Gets the mean number of dragon cards flipped per game.
+     *
+     * @return the mean game length in flips
+     */
+    public double getMeanFlips() {
+        return this.gamesPlayed == 0 ? 0.0 : (double) this.totalFlips / this.gamesPlayed;
+    }
+
+    /**
+     * Gets the mean number of successful swap cards per game.
+     *
+     * @return the mean number of swaps per game
+     */
+    public double getSwapCardsPerGame() {
+        return this.gamesPlayed == 0 ? 0.0 : (double) this.totalSwapCards / this.gamesPlayed;
+    }
+
+    /**
+     * Gets the fraction of flips that resolved into a swap.
+     *
+     * @return the swap card frequency between 0 and 1
+     */
+    public double getSwapCardFrequency() {
+        return this.totalFlips == 0 ? 0.0 : (double) this.totalSwapCards / this.totalFlips;
+    }
+
+    /**
+     * Gets the number of seats in the simulated games.
+     *
+     * @return the player count
+     */
+    public int getPlayerCount() {
+        return this.seatWins.length;
+    }
+}
@@ -0,0 +1,50 @@
+package com.fierydragon.components.simulation;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join task playing a range of games, split in halves until the range is small enough to play on one thread.
+ */
+class SimulationTask extends RecursiveTask<SimulationResult> {
+    private static final long serialVersionUID = 1L;
+
+    // Games played sequentially by one task before splitting stops
+    private static final int GAMES_PER_TASK = 64;
+
+    private final GameSimulator simulator;
+    private final int fromGame;
+    private final int toGame;
+
+    /**
+     * Constructs a task playing games [fromGame, toGame).
+     *
+     * @param simulator the simulator playing a single game
+     * @param fromGame the first game of the range
+     * @param toGame the end of the range (exclusive)
+     */
+    SimulationTask(GameSimulator simulator, int fromGame, int toGame) {
+        this.simulator = simulator;
+        this.fromGame = fromGame;
+        this.toGame = toGame;
+    }
+
+    @Override
+    protected SimulationResult compute() {
+        if(this.toGame - this.fromGame <= SimulationTask.GAMES_PER_TASK) {
+            SimulationResult result = new SimulationResult(this.simulator.getGameSetup().getPlayerCount());
+
+            for(int i = this.fromGame; i < this.toGame; i++) {
+                this.simulator.playGame(this.simulator.getGameSeed(i), result);
+            }
+            return result;
+        }
+
+        int middleGame = (this.fromGame + this.toGame) >>> 1;
+        SimulationTask left = new SimulationTask(this.simulator, this.fromGame, middleGame);
+        SimulationTask right = new SimulationTask(this.simulator, middleGame, this.toGame);
+
+        left.fork();
+        SimulationResult result = right.compute();
+        return result.merge(left.join());
+    }
+}
@@ -0,0 +1,56 @@
+package com.fierydragon.core.framework;
+
+import java.nio.ByteBuffer;
+
+import com.fierydragon.core.interfaces.ISaveReader;
+
+/**
+ * ISaveReader reading big endian from a ByteBuffer, from its position. Reading past the end throws
+ * BufferUnderflowException.
+ */
+public class ByteBufferSaveReader implements ISaveReader {
+    private ByteBuffer buffer;
+
+    /**
+     * Constructs a ByteBufferSaveReader.
+     *
+     * @param buffer the buffer to read from, its position is moved as fields are read
+     */
+    public ByteBufferSaveReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Starts reading another buffer, so the reader can be reused.
+     *
+     * @param buffer the buffer to read from
+     */
+    public void reset(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    @Override
+    public byte readByte() {
+        return this.buffer.get();
+    }
+
+    @Override
+    public short readShort() {
+        return this.buffer.getShort();
+    }
+
+    @Override
+    public int readInt() {
+        return this.buffer.getInt();
+    }
+
+    @Override
+    public long readLong() {
+        return this.buffer.getLong();
+    }
+
+    @Override
+    public boolean readBoolean() {
+        return this.buffer.get() != 0;
+    }
+}
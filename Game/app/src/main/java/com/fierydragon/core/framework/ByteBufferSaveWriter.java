@@ -0,0 +1,92 @@
+package com.fierydragon.core.framework;
+
+import java.nio.ByteBuffer;
+
+import com.fierydragon.core.interfaces.ISaveWriter;
+
+/**
+ * ISaveWriter writing big endian into a growable ByteBuffer. Call clear() to reuse it for the next snapshot,
+ * it then only allocates when a snapshot is larger than every previous one.
+ */
+public class ByteBufferSaveWriter implements ISaveWriter {
+    private ByteBuffer buffer;
+
+    /**
+     * Constructs a ByteBufferSaveWriter.
+     *
+     * @param initialCapacity the initial size of the buffer in bytes
+     */
+    public ByteBufferSaveWriter(int initialCapacity) {
+        this.buffer = ByteBuffer.allocate(Math.max(16, initialCapacity));
+    }
+
+    /**
+     * Discards everything written, keeping the buffer.
+     */
+    public void clear() {
+        this.buffer.clear();
+    }
+
+    /**
+     * Gets the number of bytes written since the last clear.
+     *
+     * @return the size in bytes
+     */
+    public int size() {
+        return this.buffer.position();
+    }
+
+    /**
+     * Gets a read-only view of the bytes written, valid until the next write or clear.
+     *
+     * @return a buffer positioned at the first byte written
+     */
+    public ByteBuffer getBuffer() {
+        return this.buffer.asReadOnlyBuffer().flip();
+    }
+
+    /**
+     * Copies the bytes written.
+     *
+     * @return a new array holding the bytes written
+     */
+    public byte[] toByteArray() {
+        byte[] bytes = new byte[this.buffer.position()];
+        this.buffer.get(0, bytes);
+        return bytes;
+    }
+
+    @Override
+    public void writeByte(int value) {
+        this.ensureRemaining(1).put((byte) value);
+    }
+
+    @Override
+    public void writeShort(int value) {
+        this.ensureRemaining(2).putShort((short) value);
+    }
+
+    @Override
+    public void writeInt(int value) {
+        this.ensureRemaining(4).putInt(value);
+    }
+
+    @Override
+    public void writeLong(long value) {
+        this.ensureRemaining(8).putLong(value);
+    }
+
+    @Override
+    public void writeBoolean(boolean value) {
+        this.ensureRemaining(1).put((byte) (value ? 1 : 0));
+    }
+
+    private ByteBuffer ensureRemaining(int bytes) {
+        if(this.buffer.remaining() < bytes) {
+            ByteBuffer grown = ByteBuffer.allocate(Math.max(2 * this.buffer.capacity(), this.buffer.position() + bytes));
+            grown.put(this.buffer.flip());
+            this.buffer = grown;
+        }
+        return this.buffer;
+    }
+}
@@ -7,6 +7,9 @@ package com.fierydragon.core.framework;
  */
 public class GameManager {
     private GameModeBase gameMode;
+    private boolean autoSaveEnabled;
+    private boolean fastPlayEnabled;
+    private boolean canvasBoardEnabled;
 
     /**
      * Starts a given GameMode
@@ -18,4 +21,67 @@ public class GameManager {
         this.gameMode.initGame(this);
         StageController.INSTANCE.drawSceneHolder(this.gameMode.getGameLevel());
     }
+
+    /**
+     * Gets the last game mode started
+     * 
+     * @return the game mode, or null if no game was started
+     */
+    public GameModeBase getGameMode() {
+        return this.gameMode;
+    }
+
+    /**
+     * Sets whether the games started from now on are autosaved after every turn
+     *
+     * @param autoSaveEnabled true to autosave
+     */
+    public void setAutoSaveEnabled(boolean autoSaveEnabled) {
+        this.autoSaveEnabled = autoSaveEnabled;
+    }
+
+    /**
+     * Whether games are autosaved after every turn
+     *
+     * @return true if games are autosaved
+     */
+    public boolean isAutoSaveEnabled() {
+        return this.autoSaveEnabled;
+    }
+
+    /**
+     * Sets whether the games started from now on are played without animations
+     *
+     * @param fastPlayEnabled true to play without animations
+     */
+    public void setFastPlayEnabled(boolean fastPlayEnabled) {
+        this.fastPlayEnabled = fastPlayEnabled;
+    }
+
+    /**
+     * Whether games are played without animations
+     *
+     * @return true if games are played without animations
+     */
+    public boolean isFastPlayEnabled() {
+        return this.fastPlayEnabled;
+    }
+
+    /**
+     * Sets whether the boards of the games started from now on are drawn into a single canvas
+     *
+     * @param canvasBoardEnabled true to draw boards into a canvas
+     */
+    public void setCanvasBoardEnabled(boolean canvasBoardEnabled) {
+        this.canvasBoardEnabled = canvasBoardEnabled;
+    }
+
+    /**
+     * Whether boards are drawn into a single canvas rather than as a node per tile and cave
+     *
+     * @return true if boards are drawn into a canvas
+     */
+    public boolean isCanvasBoardEnabled() {
+        return this.canvasBoardEnabled;
+    }
 }
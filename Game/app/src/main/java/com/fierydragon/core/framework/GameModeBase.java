@@ -36,6 +36,15 @@ public abstract class GameModeBase {
     public abstract void handleWin();
 
     public abstract void handlePause();
+
+    /**
+     * Handle quitting
+     * 
+     * Runs when the game is left before it is won, or when the application closes.
+     * Subclasses may override this method to stop keeping the game for recovery.
+     */
+    public void handleQuit() {
+    }
     
     /**
      * Get game level
@@ -0,0 +1,53 @@
+package com.fierydragon.core.framework;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.scene.Scene;
+
+/**
+ * Coalesces the width and height changes of a scene into at most one layout per pulse.
+ *
+ * A window drag changes both dimensions, often several times between two frames; the layout
+ * only runs once, just before the next pulse lays out and renders the scene.
+ */
+public class ResizeCoalescer {
+    private final Runnable layout;
+    private boolean layoutPending;
+
+    /**
+     * Constructs a ResizeCoalescer and starts listening to the scene's size.
+     *
+     * @param scene the scene to listen to
+     * @param layout the layout to run after the scene was resized
+     */
+    public ResizeCoalescer(Scene scene, Runnable layout) {
+        this.layout = layout;
+        this.layoutPending = false;
+
+        InvalidationListener sizeListener = (observable) -> this.requestLayout();
+        scene.widthProperty().addListener(sizeListener);
+        scene.heightProperty().addListener(sizeListener);
+
+        scene.addPreLayoutPulseListener(this::flush);
+    }
+
+    /**
+     * Requests a layout before the next pulse. Repeated requests before that pulse are merged.
+     */
+    public void requestLayout() {
+        if(!this.layoutPending) {
+            this.layoutPending = true;
+            Platform.requestNextPulse();
+        }
+    }
+
+    /**
+     * Runs the pending layout, if any.
+     */
+    private void flush() {
+        if(this.layoutPending) {
+            this.layoutPending = false;
+            this.layout.run();
+        }
+    }
+}
@@ -1,29 +1,78 @@
 package com.fierydragon.core.framework;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javafx.geometry.Dimension2D;
 import javafx.scene.image.Image;
 
 /**
  * Resource loader functional enum for getting runtime resource path
- * 
+ *
+ * Images are decoded once and shared through a bounded, thread-safe cache keyed by
+ * resource path and requested size (least recently used images are evicted first).
+ * The cache is only locked to look up or insert an image, which is decoded outside the lock,
+ * so only callers asking for the same image wait for each other.
+ * Callers drawing an image at a size that changes with the window request it at a resolution bucket,
+ * so a new variant is only decoded when the displayed size crosses into another bucket.
+ * A bucket at least as large as the image is its natural size, an image is never decoded larger than it is.
+ *
  * @author Chang Yi Zhong
  */
 public enum ResourceLoader {
     ASSETS("assets/");
 
+    // Room for every image under assets at its natural size plus a few requested sizes
+    private static final int IMAGE_CACHE_CAPACITY = 64;
+
+    // Sizes images are decoded to, in pixels, larger sizes use the natural size of the image
+    private static final int[] RESOLUTION_BUCKETS = {64, 128, 256, 512, 1024, 2048};
+
+    // PNG signature followed by the length and type of the IHDR chunk, then the width and height
+    private static final long PNG_SIGNATURE = 0x89504e470d0a1a0aL;
+    private static final int PNG_IHDR_TYPE = 0x49484452;
+    private static final int PNG_HEADER_SIZE = 8 + 4 + 4 + 4 + 4;
+
+    private final String resourceFolderName;
     private final String resourceFolder;
 
+    // Images being decoded or decoded, by resource path and requested size
+    private final Map<String, CompletableFuture<Image>> imageCache;
+    private final LongAdder imageCacheHits;
+    private final LongAdder imageCacheMisses;
+
+    // Natural size of every image asked for, by resource path
+    private final Map<String, Dimension2D> imageSizes;
+
     /**
-     * Constructor 
-     * 
+     * Constructor
+     *
      * @param resourceFolder Relative path to folder in classpath
      */
     private ResourceLoader(String resourceFolder) {
+        this.resourceFolderName = resourceFolder;
         this.resourceFolder = this.getClass().getClassLoader().getResource(resourceFolder).toExternalForm();
+
+        this.imageCache = new LinkedHashMap<String, CompletableFuture<Image>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<Image>> eldest) {
+                return this.size() > ResourceLoader.IMAGE_CACHE_CAPACITY;
+            }
+        };
+        this.imageCacheHits = new LongAdder();
+        this.imageCacheMisses = new LongAdder();
+        this.imageSizes = new ConcurrentHashMap<String, Dimension2D>();
     }
 
     /**
      * Get resource path
-     * 
+     *
      * @return Resource path
      */
     public String getPath() {
@@ -31,12 +80,184 @@ public enum ResourceLoader {
     }
 
     /**
-     * Load image from relative path
-     * 
+     * Check whether a resource exists
+     *
      * @param resourcePath Resource path
-     * @return Image
+     * @return Whether the resource is on the classpath
+     */
+    public boolean hasResource(String resourcePath) {
+        return this.getClass().getClassLoader().getResource(this.resourceFolderName + resourcePath) != null;
+    }
+
+    /**
+     * Load image from relative path, decoded at its natural size
+     *
+     * @param resourcePath Resource path
+     * @return Image, shared with every other caller of the same path
      */
     public Image loadImage(String resourcePath) {
-        return new Image(this.resourceFolder + resourcePath);
+        return this.loadImage(resourcePath, 0, 0);
+    }
+
+    /**
+     * Load image from relative path, decoded to fit the requested size (keeping its ratio)
+     *
+     * @param resourcePath Resource path
+     * @param requestedWidth Width to decode the image to, 0 for the natural width
+     * @param requestedHeight Height to decode the image to, 0 for the natural height
+     * @return Image, shared with every other caller of the same path and size
+     */
+    public Image loadImage(String resourcePath, double requestedWidth, double requestedHeight) {
+        return this.loadImage(resourcePath, requestedWidth, requestedHeight, false);
+    }
+
+    /**
+     * Load image from relative path in the background, decoded to fit the requested size (keeping its ratio)
+     *
+     * The image is returned right away, while it is still loading, unless it was already cached.
+     *
+     * @param resourcePath Resource path
+     * @param requestedWidth Width to decode the image to, 0 for the natural width
+     * @param requestedHeight Height to decode the image to, 0 for the natural height
+     * @return Image, shared with every other caller of the same path and size
+     */
+    public Image loadImageInBackground(String resourcePath, double requestedWidth, double requestedHeight) {
+        return this.loadImage(resourcePath, requestedWidth, requestedHeight, true);
+    }
+
+    /**
+     * Load image from relative path through the cache
+     *
+     * @param resourcePath Resource path
+     * @param requestedWidth Width to decode the image to, 0 for the natural width
+     * @param requestedHeight Height to decode the image to, 0 for the natural height
+     * @param backgroundLoading Whether to return before the image is decoded
+     * @return Image, shared with every other caller of the same path and size
+     */
+    private Image loadImage(String resourcePath, double requestedWidth, double requestedHeight, boolean backgroundLoading) {
+        String key = resourcePath + "@" + requestedWidth + "x" + requestedHeight;
+
+        // The first caller of a key decodes it, later ones wait for the same image
+        CompletableFuture<Image> cachedImage;
+        boolean decoding = false;
+        synchronized(this.imageCache) {
+            cachedImage = this.imageCache.get(key);
+
+            if(cachedImage == null) {
+                cachedImage = new CompletableFuture<Image>();
+                this.imageCache.put(key, cachedImage);
+                decoding = true;
+            }
+        }
+
+        if(!decoding) {
+            this.imageCacheHits.increment();
+            return cachedImage.join();
+        }
+
+        this.imageCacheMisses.increment();
+        try {
+            Image image = new Image(this.resourceFolder + resourcePath, requestedWidth, requestedHeight, true, true, backgroundLoading);
+            cachedImage.complete(image);
+            return image;
+        } catch(RuntimeException e) {
+            // Not cached, so the next caller tries again
+            synchronized(this.imageCache) {
+                this.imageCache.remove(key, cachedImage);
+            }
+            cachedImage.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Get the natural size of an image, read from its header for a PNG, otherwise from the image decoded at its natural size
+     *
+     * @param resourcePath Resource path
+     * @return Natural width and height of the image, in pixels
+     */
+    public Dimension2D getImageSize(String resourcePath) {
+        return this.imageSizes.computeIfAbsent(resourcePath, (path) -> {
+            Dimension2D imageSize = this.readPngSize(path);
+            if(imageSize != null) {
+                return imageSize;
+            }
+
+            Image image = this.loadImage(path);
+            return new Dimension2D(image.getWidth(), image.getHeight());
+        });
+    }
+
+    /**
+     * Read the size of an image from its PNG header
+     *
+     * @param resourcePath Resource path
+     * @return Width and height of the image, or null if it is not a readable PNG
+     */
+    private Dimension2D readPngSize(String resourcePath) {
+        try(InputStream stream = this.getClass().getClassLoader().getResourceAsStream(this.resourceFolderName + resourcePath)) {
+            if(stream == null) {
+                return null;
+            }
+
+            byte[] header = stream.readNBytes(ResourceLoader.PNG_HEADER_SIZE);
+            if(header.length < ResourceLoader.PNG_HEADER_SIZE) {
+                return null;
+            }
+
+            ByteBuffer buffer = ByteBuffer.wrap(header);
+            if(buffer.getLong() != ResourceLoader.PNG_SIGNATURE || buffer.getInt() < 8 || buffer.getInt() != ResourceLoader.PNG_IHDR_TYPE) {
+                return null;
+            }
+            return new Dimension2D(buffer.getInt(), buffer.getInt());
+        } catch(IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Snap a displayed size to the resolution bucket to decode an image at
+     *
+     * @param displayedSize Size the image is displayed at, in device pixels
+     * @param naturalSize Natural size of the image along the same side, in pixels
+     * @return Smallest bucket at least as large as the displayed size,
+     *         0 (natural size) past the largest bucket or when the bucket is not smaller than the image
+     */
+    public static int getResolutionBucket(double displayedSize, double naturalSize) {
+        for(int bucket: ResourceLoader.RESOLUTION_BUCKETS) {
+            if(displayedSize <= bucket) {
+                return bucket < naturalSize ? bucket : 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Get the number of image loads served from the cache
+     *
+     * @return Cache hit count
+     */
+    public long getImageCacheHits() {
+        return this.imageCacheHits.sum();
+    }
+
+    /**
+     * Get the number of image loads that had to decode the image
+     *
+     * @return Cache miss count
+     */
+    public long getImageCacheMisses() {
+        return this.imageCacheMisses.sum();
+    }
+
+    /**
+     * Get the number of images currently held by the cache
+     *
+     * @return Cached image count
+     */
+    public int getImageCacheSize() {
+        synchronized(this.imageCache) {
+            return this.imageCache.size();
+        }
     }
 }
@@ -0,0 +1,315 @@
+package com.fierydragon.core.framework;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The SaveArchive class keeps many saves in one memory-mapped file, for simulation and tournament archives
+ * where one file per save would spend most of its time creating and stat-ing files.
+ *
+ * The file is a header followed by chunks of CHUNK_SLOTS slots, each chunk mapped on its own so the archive grows
+ * one chunk at a time without remapping. A chunk starts with its part of the index, one entry per slot
+ * (save length, 0 for a free slot, next free slot and timestamp), followed by the fixed-size slots, so listing the
+ * archive only touches the index pages. Freed slots are chained into a free list through their index entries.
+ *
+ * Header (big endian): magic "FDSA" (int), version (short), unused (short), slot size (int), chunk count (int),
+ * free list head (int), saves (int), slots ever used (int), open flag (int).
+ * The header is rebuilt from the index when the archive was not closed cleanly.
+ *
+ * Saves are read back as read-only views of the mapping, without copying.
+ */
+public class SaveArchive implements Closeable {
+    private static final int MAGIC = 0x46445341;
+    private static final short VERSION = 1;
+
+    private static final int HEADER_SIZE = 32;
+    private static final int SLOT_SIZE_OFFSET = 8;
+    private static final int CHUNK_COUNT_OFFSET = 12;
+    private static final int FREE_HEAD_OFFSET = 16;
+    private static final int SAVE_COUNT_OFFSET = 20;
+    private static final int SLOTS_USED_OFFSET = 24;
+    private static final int OPEN_FLAG_OFFSET = 28;
+
+    // Save length, next free slot, timestamp
+    private static final int INDEX_ENTRY_SIZE = 4 + 4 + 8;
+    private static final int CHUNK_SLOTS = 1024;
+    private static final int NO_SLOT = -1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final int slotSize;
+    private final long chunkSize;
+
+    private final List<MappedByteBuffer> chunks;
+
+    private SaveArchive(FileChannel channel, MappedByteBuffer header, int slotSize) {
+        this.channel = channel;
+        this.header = header;
+        this.slotSize = slotSize;
+        this.chunkSize = (long) SaveArchive.CHUNK_SLOTS * (SaveArchive.INDEX_ENTRY_SIZE + slotSize);
+        this.chunks = new ArrayList<MappedByteBuffer>();
+    }
+
+    /**
+     * Opens an archive, creating it if the file does not exist.
+     *
+     * @param path the archive file
+     * @param slotSize the largest save, in bytes, a new archive can hold (an existing archive keeps its own)
+     * @return the open archive
+     * @throws IOException if the file cannot be opened or is not an archive
+     */
+    public static SaveArchive open(Path path, int slotSize) throws IOException {
+        // A chunk is mapped as one buffer, so it must stay under 2 GB
+        if(slotSize <= 0 || (long) SaveArchive.CHUNK_SLOTS * (SaveArchive.INDEX_ENTRY_SIZE + slotSize) > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid archive slot size " + slotSize);
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            boolean created = channel.size() == 0;
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, SaveArchive.HEADER_SIZE);
+
+            if(created) {
+                header.putInt(0, SaveArchive.MAGIC);
+                header.putShort(4, SaveArchive.VERSION);
+                header.putInt(SaveArchive.SLOT_SIZE_OFFSET, slotSize);
+                header.putInt(SaveArchive.FREE_HEAD_OFFSET, SaveArchive.NO_SLOT);
+            } else if(header.getInt(0) != SaveArchive.MAGIC || header.getShort(4) != SaveArchive.VERSION) {
+                throw new IOException("Not a save archive: " + path);
+            }
+
+            SaveArchive archive = new SaveArchive(channel, header, header.getInt(SaveArchive.SLOT_SIZE_OFFSET));
+            for(int i = 0; i < header.getInt(SaveArchive.CHUNK_COUNT_OFFSET); i++) {
+                archive.mapChunk(i);
+            }
+
+            if(header.getInt(SaveArchive.OPEN_FLAG_OFFSET) != 0) {
+                archive.rebuildHeader();
+            }
+            header.putInt(SaveArchive.OPEN_FLAG_OFFSET, 1);
+            header.force();
+
+            return archive;
+        } catch(IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the largest save, in bytes, a slot can hold.
+     *
+     * @return the slot size
+     */
+    public int getSlotSize() {
+        return this.slotSize;
+    }
+
+    /**
+     * Stores a save in a free slot.
+     *
+     * @param save the encoded save, read from its position to its limit
+     * @return the ID of the slot holding the save
+     * @throws IOException if the save is larger than a slot or the archive cannot grow
+     */
+    public synchronized int write(ByteBuffer save) throws IOException {
+        int length = save.remaining();
+        if(length == 0 || length > this.slotSize) {
+            throw new IOException("Save of " + length + " bytes does not fit the archive's " + this.slotSize + " byte slots");
+        }
+
+        int slotID = this.header.getInt(SaveArchive.FREE_HEAD_OFFSET);
+        if(slotID != SaveArchive.NO_SLOT) {
+            this.header.putInt(SaveArchive.FREE_HEAD_OFFSET, this.getNextFree(slotID));
+        } else {
+            slotID = this.header.getInt(SaveArchive.SLOTS_USED_OFFSET);
+            if(slotID == this.chunks.size() * SaveArchive.CHUNK_SLOTS) {
+                this.addChunk();
+            }
+            this.header.putInt(SaveArchive.SLOTS_USED_OFFSET, slotID + 1);
+        }
+
+        MappedByteBuffer chunk = this.chunks.get(slotID / SaveArchive.CHUNK_SLOTS);
+        chunk.put(this.getSlotOffset(slotID), save, save.position(), length);
+        save.position(save.limit());
+
+        // The length goes in last: a slot only counts as used once its save is complete
+        int entryOffset = this.getEntryOffset(slotID);
+        chunk.putInt(entryOffset + 4, SaveArchive.NO_SLOT);
+        chunk.putLong(entryOffset + 8, System.currentTimeMillis());
+        chunk.putInt(entryOffset, length);
+
+        this.header.putInt(SaveArchive.SAVE_COUNT_OFFSET, this.header.getInt(SaveArchive.SAVE_COUNT_OFFSET) + 1);
+        return slotID;
+    }
+
+    /**
+     * Reads a save without copying it. The view stays valid until the slot is freed.
+     *
+     * @param slotID the ID of the slot
+     * @return a read-only view of the save
+     * @throws IOException if the slot does not hold a save
+     */
+    public synchronized ByteBuffer read(int slotID) throws IOException {
+        int length = this.getLength(slotID);
+        if(length == 0) {
+            throw new IOException("Archive slot " + slotID + " is empty");
+        }
+
+        return this.chunks.get(slotID / SaveArchive.CHUNK_SLOTS).slice(this.getSlotOffset(slotID), length).asReadOnlyBuffer();
+    }
+
+    /**
+     * Gets when a save was written.
+     *
+     * @param slotID the ID of the slot
+     * @return the time the save was written, in milliseconds since the epoch
+     * @throws IOException if the slot does not hold a save
+     */
+    public synchronized long getTimestamp(int slotID) throws IOException {
+        if(this.getLength(slotID) == 0) {
+            throw new IOException("Archive slot " + slotID + " is empty");
+        }
+        return this.chunks.get(slotID / SaveArchive.CHUNK_SLOTS).getLong(this.getEntryOffset(slotID) + 8);
+    }
+
+    /**
+     * Deletes a save, making its slot available to the next write.
+     *
+     * @param slotID the ID of the slot
+     * @throws IOException if the slot does not hold a save
+     */
+    public synchronized void free(int slotID) throws IOException {
+        if(this.getLength(slotID) == 0) {
+            throw new IOException("Archive slot " + slotID + " is empty");
+        }
+
+        MappedByteBuffer chunk = this.chunks.get(slotID / SaveArchive.CHUNK_SLOTS);
+        int entryOffset = this.getEntryOffset(slotID);
+        chunk.putInt(entryOffset, 0);
+        chunk.putInt(entryOffset + 4, this.header.getInt(SaveArchive.FREE_HEAD_OFFSET));
+
+        this.header.putInt(SaveArchive.FREE_HEAD_OFFSET, slotID);
+        this.header.putInt(SaveArchive.SAVE_COUNT_OFFSET, this.header.getInt(SaveArchive.SAVE_COUNT_OFFSET) - 1);
+    }
+
+    /**
+     * Gets the number of saves in the archive.
+     *
+     * @return the save count
+     */
+    public synchronized int getSaveCount() {
+        return this.header.getInt(SaveArchive.SAVE_COUNT_OFFSET);
+    }
+
+    /**
+     * Lists the slots holding a save, reading only the index.
+     *
+     * @return the IDs of the slots holding a save, in increasing order
+     */
+    public synchronized int[] getSlotIDs() {
+        int[] slotIDs = new int[this.getSaveCount()];
+        int count = 0;
+
+        int slotsUsed = this.header.getInt(SaveArchive.SLOTS_USED_OFFSET);
+        for(int i = 0; i < slotsUsed && count < slotIDs.length; i++) {
+            if(this.getLength(i) != 0) {
+                slotIDs[count++] = i;
+            }
+        }
+        return count == slotIDs.length ? slotIDs : Arrays.copyOf(slotIDs, count);
+    }
+
+    /**
+     * Flushes every write so far to the device.
+     */
+    public synchronized void force() {
+        for(MappedByteBuffer chunk : this.chunks) {
+            chunk.force();
+        }
+        this.header.force();
+    }
+
+    /**
+     * Flushes the archive and marks it closed cleanly. Views returned by read stay readable.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        this.force();
+        this.header.putInt(SaveArchive.OPEN_FLAG_OFFSET, 0);
+        this.header.force();
+        this.channel.close();
+    }
+
+    // ===============
+    // Layout
+    private int getEntryOffset(int slotID) {
+        return (slotID % SaveArchive.CHUNK_SLOTS) * SaveArchive.INDEX_ENTRY_SIZE;
+    }
+
+    private int getSlotOffset(int slotID) {
+        return SaveArchive.CHUNK_SLOTS * SaveArchive.INDEX_ENTRY_SIZE + (slotID % SaveArchive.CHUNK_SLOTS) * this.slotSize;
+    }
+
+    private int getLength(int slotID) {
+        if(slotID < 0 || slotID >= this.chunks.size() * SaveArchive.CHUNK_SLOTS) {
+            return 0;
+        }
+        return this.chunks.get(slotID / SaveArchive.CHUNK_SLOTS).getInt(this.getEntryOffset(slotID));
+    }
+
+    private int getNextFree(int slotID) {
+        return this.chunks.get(slotID / SaveArchive.CHUNK_SLOTS).getInt(this.getEntryOffset(slotID) + 4);
+    }
+
+    private void mapChunk(int chunkID) throws IOException {
+        long position = SaveArchive.HEADER_SIZE + chunkID * this.chunkSize;
+        this.chunks.add(this.channel.map(FileChannel.MapMode.READ_WRITE, position, this.chunkSize));
+    }
+
+    private void addChunk() throws IOException {
+        // Mapping past the end of the file grows it, the new index entries read as free
+        this.mapChunk(this.chunks.size());
+        this.header.putInt(SaveArchive.CHUNK_COUNT_OFFSET, this.chunks.size());
+    }
+
+    /**
+     * Recounts the saves and relinks the free list from the index, after a crash left the header behind.
+     */
+    private void rebuildHeader() {
+        int saveCount = 0;
+        int slotsUsed = 0;
+        int freeHead = SaveArchive.NO_SLOT;
+
+        int slotCount = this.chunks.size() * SaveArchive.CHUNK_SLOTS;
+        for(int i = 0; i < slotCount; i++) {
+            if(this.getLength(i) != 0) {
+                saveCount++;
+                slotsUsed = i + 1;
+            }
+        }
+
+        for(int i = slotsUsed - 1; i >= 0; i--) {
+            if(this.getLength(i) == 0) {
+                this.chunks.get(i / SaveArchive.CHUNK_SLOTS).putInt(this.getEntryOffset(i) + 4, freeHead);
+                freeHead = i;
+            }
+        }
+
+        this.header.putInt(SaveArchive.FREE_HEAD_OFFSET, freeHead);
+        this.header.putInt(SaveArchive.SAVE_COUNT_OFFSET, saveCount);
+        this.header.putInt(SaveArchive.SLOTS_USED_OFFSET, slotsUsed);
+    }
+    // ===============
+}
@@ -1,14 +1,25 @@
 package com.fierydragon.core.framework;
 
-import java.io.BufferedReader;
-import java.io.FileOutputStream;
-import java.io.FileReader;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import com.fierydragon.core.interfaces.ISaveCodec;
 import com.fierydragon.core.interfaces.ISaveable;
 
 
@@ -17,6 +28,15 @@ import com.fierydragon.core.interfaces.ISaveable;
  * game state data to and from disk. It uses a predefined directory
  * under the user's home directory to store save files.
  *
+ * Saves are written in the format of the configured ISaveCodec (text by default) through
+ * a single buffered channel write. Loading detects the format, so text saves stay readable.
+ *
+ * Writing happens on a background thread, one save at a time, and a save file is only
+ * ever replaced as a whole, so a crash mid-write never leaves a truncated save behind.
+ *
+ * The saves in the directory are catalogued by a SaveIndex, which the save browser lists from.
+ * Saves can also go to a SaveArchive instead, which keeps many saves in one memory-mapped file.
+ *
  * @author: Yi Zhong
  */
 public class SaveHandler {
@@ -26,8 +46,14 @@ public class SaveHandler {
      */
     public static final SaveHandler INSTANCE = new SaveHandler();;
 
-    private static final String SAVEDIR = System.getProperty("user.home") + "\\.fierydragon\\saves\\";
-    private static final String SAVEFILE_EXTENSION = ".dat";
+    private static final String SAVEDIR = System.getProperty("user.home") + File.separator + ".fierydragon" + File.separator + "saves" + File.separator;
+    private static final String SAVE_FILE_PREFIX = "fierydragonsave_";
+
+    private final TextSaveCodec textSaveCodec;
+    private ISaveCodec saveCodec;
+
+    private final ExecutorService saveExecutor;
+    private volatile SaveIndex saveIndex;
 
     private SimpleDateFormat dateFormat;
 
@@ -39,67 +65,251 @@ public class SaveHandler {
 
     private SaveHandler() {
         this.dateFormat = new SimpleDateFormat("ddMMyyyy-HHmmss");
+        this.textSaveCodec = new TextSaveCodec();
+        this.saveCodec = this.textSaveCodec;
+
+        this.saveExecutor = Executors.newSingleThreadExecutor((runnable) -> {
+            Thread thread = new Thread(runnable, "SaveHandler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets the format new saves are written in.
+     *
+     * @param saveCodec the save format
+     */
+    public void setSaveCodec(ISaveCodec saveCodec) {
+        this.saveCodec = saveCodec;
     }
 
 
     /**
      * Generates a unique save file name based on the current date and time.
      *
+     * @param fileExtension the extension of the save format
      * @return the generated save file name
      */
-    private String getSaveName() {
+    private String getSaveName(String fileExtension) {
         Date now = new Date();
 
-        return "fierydragonsave_" + this.dateFormat.format(now) + SaveHandler.SAVEFILE_EXTENSION;
+        return SaveHandler.SAVE_FILE_PREFIX + this.dateFormat.format(now) + fileExtension;
     }
 
     /**
      * Saves the state of the given saveable object to disk.
      *
+     * The state is captured on the calling thread, then encoded and written in the background.
+     *
      * @param saveable the object to save
+     * @return a future completed with the path of the save file once it is on disk
      */
-    public void save(ISaveable saveable) {
-        String saveName = this.getSaveName();
-        String savePath = SaveHandler.SAVEDIR + saveName;
+    public CompletableFuture<Path> save(ISaveable saveable) {
+        return this.save(saveable, this.saveCodec);
+    }
+
+    /**
+     * Saves the state of the given saveable object to disk in the readable text format.
+     *
+     * @param saveable the object to export
+     * @return a future completed with the path of the exported file once it is on disk
+     */
+    public CompletableFuture<Path> export(ISaveable saveable) {
+        return this.save(saveable, this.textSaveCodec);
+    }
+
+    /**
+     * Saves the state of the given saveable object to disk in the given format.
+     *
+     * @param saveable the object to save
+     * @param saveCodec the format to write
+     * @return a future completed with the path of the save file once it is on disk
+     */
+    private CompletableFuture<Path> save(ISaveable saveable, ISaveCodec saveCodec) {
+        // Snapshot on the calling thread (the FX thread for the pause menu), the game may move on right after
+        Path savePath = Paths.get(SaveHandler.SAVEDIR + this.getSaveName(saveCodec.getFileExtension()));
         Map<String, String> properties = new LinkedHashMap<String, String>();
 
         saveable.invokeSave(properties, "");
 
-        try(FileOutputStream fileOutputStream = new FileOutputStream(savePath)) {
-            for(Map.Entry<String, String> entry : properties.entrySet()) {
-                fileOutputStream.write((entry.getKey() + "=" + entry.getValue() + "\n").getBytes());
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                SaveHandler.writeAtomically(savePath, saveCodec.encode(properties));
+
+                // Index from the snapshot rather than reading the file back; once open, the index reconciles anything missed
+                SaveIndex saveIndex = this.saveIndex;
+                if(saveIndex != null) {
+                    saveIndex.put(SaveMetadata.fromProperties(savePath.getFileName().toString(), Files.getLastModifiedTime(savePath).toMillis(), properties));
+                }
+                return savePath;
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
             }
-        } catch(Exception e) {
-            e.printStackTrace();
-        }
+        }, this.saveExecutor);
     }
 
     /**
-     * Loads the state from the specified save file.
+     * Saves the state of the given saveable object to a slot of an archive instead of a save file.
      *
-     * @param savePath the path to the save file
-     * @return a map of the loaded properties, or null if an error occurs
+     * The state is captured on the calling thread, then encoded and written in the background.
+     *
+     * @param saveable the object to save
+     * @param saveArchive the archive to save to
+     * @return a future completed with the ID of the slot holding the save
      */
-    public Map<String, String> load(String savePath) {
+    public CompletableFuture<Integer> save(ISaveable saveable, SaveArchive saveArchive) {
         Map<String, String> properties = new LinkedHashMap<String, String>();
+        saveable.invokeSave(properties, "");
 
-        try(BufferedReader reader = new BufferedReader(new FileReader(savePath))) {
-            String line;
+        ISaveCodec saveCodec = this.saveCodec;
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return saveArchive.write(saveCodec.encode(properties));
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, this.saveExecutor);
+    }
 
-            while((line = reader.readLine()) != null) {
-                String[] split = line.split("=");
+    /**
+     * Writes a file so that it is either fully written or not there at all: the content goes to a temporary
+     * file, is flushed to the device, then the temporary file is renamed over the target.
+     *
+     * @param path the file to write
+     * @param buffer the content of the file
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeAtomically(Path path, ByteBuffer buffer) throws IOException {
+        Path tempPath = Paths.get(path.toString() + ".tmp");
 
-                if(split.length == 2) {
-                    properties.put(split[0].trim(), split[1].trim());
+        try {
+            try(FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while(buffer.hasRemaining()) {
+                    channel.write(buffer);
                 }
+                channel.force(true);
             }
+
+            try {
+                Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch(AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * Loads the state from the specified save file, in any supported format.
+     *
+     * @param savePath the path to the save file
+     * @return a map of the loaded properties, or null if an error occurs
+     */
+    public Map<String, String> load(String savePath) {
+        try {
+            return this.decode(SaveHandler.readFile(Paths.get(savePath)));
+        } catch(Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Loads the state from a slot of an archive, decoding straight from the mapped file.
+     *
+     * @param saveArchive the archive
+     * @param slotID the ID of the slot
+     * @return a map of the loaded properties, or null if an error occurs
+     */
+    public Map<String, String> load(SaveArchive saveArchive, int slotID) {
+        try {
+            return this.decode(saveArchive.read(slotID));
         } catch(Exception e) {
             e.printStackTrace();
             return null;
         }
+    }
 
-        return properties;
+    /**
+     * Decodes a save in any supported format.
+     *
+     * @param buffer the content of the save
+     * @return the decoded properties
+     * @throws IOException if the buffer is not a valid save
+     */
+    private Map<String, String> decode(ByteBuffer buffer) throws IOException {
+        if(this.saveCodec.canDecode(buffer)) {
+            return this.saveCodec.decode(buffer);
+        }
+        return this.textSaveCodec.decode(buffer);
     }
+
+    /**
+     * Reads a whole file with a single channel read into a buffer of its size.
+     *
+     * @param path the file to read
+     * @return the content of the file, ready to be decoded
+     * @throws IOException if the file cannot be read
+     */
+    public static ByteBuffer readFile(Path path) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if(size > Integer.MAX_VALUE) {
+                throw new IOException("Save file too large: " + path);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            int read = 0;
+            while(buffer.hasRemaining() && read >= 0) {
+                read = channel.read(buffer);
+            }
+
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    /**
+     * Returns the catalog of the saves in the save directory, opening it on first use.
+     *
+     * @return the save index
+     */
+    public SaveIndex getSaveIndex() {
+        SaveIndex saveIndex = this.saveIndex;
+
+        if(saveIndex == null) {
+            synchronized(this) {
+                saveIndex = this.saveIndex;
+                if(saveIndex == null) {
+                    saveIndex = new SaveIndex(Paths.get(SaveHandler.SAVEDIR), SaveHandler.SAVE_FILE_PREFIX, this.saveExecutor, (path) -> this.load(path.toString()));
+                    saveIndex.open();
+                    this.saveIndex = saveIndex;
+                }
+            }
+        }
+        return saveIndex;
+    }
+
+    /**
+     * Returns the file the game in progress is journaled to for crash recovery, next to the save directory.
+     *
+     * @return the recovery journal path
+     */
+    public Path getRecoveryJournalPath() {
+        return Paths.get(SaveHandler.SAVEDIR).resolveSibling("recovery.journal");
+    }
+
+    /**
+     * Returns the file games are autosaved to after every turn, next to the save directory.
+     *
+     * @return the autosave path
+     */
+    public Path getAutoSavePath() {
+        return Paths.get(SaveHandler.SAVEDIR).resolveSibling("autosave.dat");
+    }
+
     /**
      * Returns the directory where save files are stored.
      *
@@ -0,0 +1,428 @@
+package com.fierydragon.core.framework;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Catalog of the saves in the save directory, so the saves can be listed and paged through
+ * without opening every save file.
+ *
+ * The catalog lives in memory and is persisted as an append-only journal next to the saves:
+ * magic "FDSI" (int), version (short), then one record per change: operation (byte),
+ * file name (short length, UTF-8) and, for a put, timestamp (long), player count (byte),
+ * current player (byte), volcano card count (short), turn number (int).
+ * The journal is rewritten from the catalog on open when it holds mostly stale records or a torn tail.
+ *
+ * On open the catalog is reconciled with the directory in the background, only reading saves that are
+ * new or changed since they were indexed, then a WatchService keeps it up to date.
+ * The journal is only written from the given executor (the save thread), so its records never interleave.
+ */
+public class SaveIndex {
+    public static final String INDEX_FILE_NAME = "saveindex.idx";
+
+    private static final int MAGIC = 0x46445349;
+    private static final short VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 2;
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+
+    private static final int MIN_COMPACT_RECORDS = 64;
+
+    private static final Comparator<SaveMetadata> NEWEST_FIRST = Comparator.comparingLong(SaveMetadata::getTimestamp).thenComparing(SaveMetadata::getFileName).reversed();
+
+    private final Path saveDirectory;
+    private final Path indexPath;
+    private final String saveFilePrefix;
+    private final Executor executor;
+    private final Function<Path, Map<String, String>> saveLoader;
+
+    private final Map<String, SaveMetadata> saves;
+    private volatile List<SaveMetadata> sortedSaves;
+    private final List<Runnable> changeListeners;
+
+    // ===============
+    // Journal, only touched on the executor once opened
+    private FileChannel journal;
+    private int journalRecords;
+    private boolean journalDirty;
+    // ===============
+
+    /**
+     * Constructs a SaveIndex for a save directory. Call open to load and start watching it.
+     *
+     * @param saveDirectory the directory holding the saves
+     * @param saveFilePrefix the file name prefix of save files
+     * @param executor the executor journal writes and directory scans run on
+     * @param saveLoader reads the properties of a save file, returning null if it cannot be read
+     */
+    public SaveIndex(Path saveDirectory, String saveFilePrefix, Executor executor, Function<Path, Map<String, String>> saveLoader) {
+        this.saveDirectory = saveDirectory;
+        this.indexPath = saveDirectory.resolve(SaveIndex.INDEX_FILE_NAME);
+        this.saveFilePrefix = saveFilePrefix;
+        this.executor = executor;
+        this.saveLoader = saveLoader;
+
+        this.saves = new ConcurrentHashMap<String, SaveMetadata>();
+        this.changeListeners = new CopyOnWriteArrayList<Runnable>();
+    }
+
+    /**
+     * Loads the journal, then reconciles the catalog with the directory in the background and starts
+     * watching the directory for changes.
+     */
+    public void open() {
+        this.readJournal();
+
+        this.executor.execute(() -> {
+            try {
+                if(this.journalDirty) {
+                    this.compactJournal();
+                }
+                this.journal = FileChannel.open(this.indexPath, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            } catch(IOException e) {
+                e.printStackTrace();
+            }
+
+            this.reconcile();
+        });
+
+        Thread watcher = new Thread(this::watch, "SaveIndexWatcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    /**
+     * Adds a listener called (on a background thread) whenever the catalog changes.
+     *
+     * @param listener the listener to add
+     */
+    public void addChangeListener(Runnable listener) {
+        this.changeListeners.add(listener);
+    }
+
+    /**
+     * Returns the number of indexed saves.
+     *
+     * @return the number of saves
+     */
+    public int getSaveCount() {
+        return this.saves.size();
+    }
+
+    /**
+     * Returns a page of the indexed saves, newest first.
+     *
+     * @param page the page number, starting at 0
+     * @param pageSize the number of saves per page
+     * @return the saves on that page, empty past the last page
+     */
+    public List<SaveMetadata> getSaves(int page, int pageSize) {
+        List<SaveMetadata> sortedSaves = this.getSortedSaves();
+
+        int from = page * pageSize;
+        if(page < 0 || from >= sortedSaves.size()) {
+            return Collections.emptyList();
+        }
+        return sortedSaves.subList(from, Math.min(from + pageSize, sortedSaves.size()));
+    }
+
+    /**
+     * Returns all saves sorted newest first, sorting again only after the catalog changed.
+     *
+     * @return the sorted saves
+     */
+    private List<SaveMetadata> getSortedSaves() {
+        List<SaveMetadata> sortedSaves = this.sortedSaves;
+
+        if(sortedSaves == null) {
+            List<SaveMetadata> snapshot = new ArrayList<SaveMetadata>(this.saves.values());
+            snapshot.sort(SaveIndex.NEWEST_FIRST);
+
+            sortedSaves = Collections.unmodifiableList(snapshot);
+            this.sortedSaves = sortedSaves;
+        }
+        return sortedSaves;
+    }
+
+    /**
+     * Indexes a save that was just written. Must be called on the executor.
+     *
+     * @param saveMetadata the metadata of the save
+     */
+    public void put(SaveMetadata saveMetadata) {
+        this.putEntry(saveMetadata);
+        this.notifyChanged();
+    }
+
+    // ===============
+    // Catalog updates, run on the executor
+    private void putEntry(SaveMetadata saveMetadata) {
+        this.saves.put(saveMetadata.getFileName(), saveMetadata);
+        this.sortedSaves = null;
+        this.appendRecord(SaveIndex.OP_PUT, saveMetadata.getFileName(), saveMetadata);
+    }
+
+    private void removeEntry(String fileName) {
+        if(this.saves.remove(fileName) != null) {
+            this.sortedSaves = null;
+            this.appendRecord(SaveIndex.OP_REMOVE, fileName, null);
+        }
+    }
+
+    private void notifyChanged() {
+        for(Runnable listener : this.changeListeners) {
+            listener.run();
+        }
+    }
+
+    /**
+     * Indexes a save file if it is not indexed yet or changed since it was indexed.
+     *
+     * @param path the save file
+     * @return true if the catalog changed
+     */
+    private boolean indexFile(Path path) {
+        String fileName = path.getFileName().toString();
+        if(!this.isSaveFile(fileName)) {
+            return false;
+        }
+
+        try {
+            long timestamp = Files.getLastModifiedTime(path).toMillis();
+            SaveMetadata indexed = this.saves.get(fileName);
+            if(indexed != null && indexed.getTimestamp() == timestamp) {
+                return false;
+            }
+
+            Map<String, String> properties = this.saveLoader.apply(path);
+            if(properties == null) {
+                return false;
+            }
+
+            this.putEntry(SaveMetadata.fromProperties(fileName, timestamp, properties));
+            return true;
+        } catch(IOException e) {
+            // Deleted or replaced while being read, a watch event follows
+            return false;
+        }
+    }
+
+    /**
+     * Brings the catalog in line with the directory: drops saves that are gone and indexes the
+     * new and changed ones. Unchanged saves are only stat'ed.
+     */
+    private void reconcile() {
+        Set<String> seen = new HashSet<String>();
+        boolean changed = false;
+
+        try(DirectoryStream<Path> directory = Files.newDirectoryStream(this.saveDirectory, this.saveFilePrefix + "*")) {
+            for(Path path : directory) {
+                seen.add(path.getFileName().toString());
+                changed |= this.indexFile(path);
+            }
+        } catch(IOException e) {
+            e.printStackTrace();
+            return;
+        }
+
+        for(String fileName : new ArrayList<String>(this.saves.keySet())) {
+            if(!seen.contains(fileName)) {
+                this.removeEntry(fileName);
+                changed = true;
+            }
+        }
+
+        if(changed) {
+            this.notifyChanged();
+        }
+    }
+
+    private boolean isSaveFile(String fileName) {
+        return fileName.startsWith(this.saveFilePrefix) && !fileName.endsWith(".tmp");
+    }
+    // ===============
+
+    // ===============
+    // Directory watching
+    private void watch() {
+        try(WatchService watchService = this.saveDirectory.getFileSystem().newWatchService()) {
+            this.saveDirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+
+            while(true) {
+                WatchKey key = watchService.take();
+
+                for(WatchEvent<?> event : key.pollEvents()) {
+                    if(event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        this.executor.execute(this::reconcile);
+                        continue;
+                    }
+
+                    Path path = this.saveDirectory.resolve((Path) event.context());
+                    if(event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                        this.executor.execute(() -> {
+                            if(!Files.exists(path) && this.saves.containsKey(path.getFileName().toString())) {
+                                this.removeEntry(path.getFileName().toString());
+                                this.notifyChanged();
+                            }
+                        });
+                    } else {
+                        this.executor.execute(() -> {
+                            if(this.indexFile(path)) {
+                                this.notifyChanged();
+                            }
+                        });
+                    }
+                }
+
+                if(!key.reset()) {
+                    return;
+                }
+            }
+        } catch(InterruptedException | ClosedWatchServiceException e) {
+            // Shutting down
+        } catch(IOException e) {
+            e.printStackTrace();
+        }
+    }
+    // ===============
+
+    // ===============
+    // Journal
+    /**
+     * Replays the journal into the catalog. A missing, foreign or torn journal is marked for rewriting.
+     */
+    private void readJournal() {
+        if(!Files.exists(this.indexPath)) {
+            this.journalDirty = true;
+            return;
+        }
+
+        try {
+            ByteBuffer buffer = SaveHandler.readFile(this.indexPath);
+            if(buffer.remaining() < SaveIndex.HEADER_SIZE || buffer.getInt() != SaveIndex.MAGIC || buffer.getShort() != SaveIndex.VERSION) {
+                this.journalDirty = true;
+                return;
+            }
+
+            while(buffer.hasRemaining()) {
+                byte op = buffer.get();
+                byte[] name = new byte[buffer.getShort()];
+                buffer.get(name);
+                String fileName = new String(name, StandardCharsets.UTF_8);
+
+                if(op == SaveIndex.OP_PUT) {
+                    long timestamp = buffer.getLong();
+                    int playerCount = buffer.get();
+                    int currentPlayer = buffer.get();
+                    int volcanoCardCount = buffer.getShort();
+                    int turnNumber = buffer.getInt();
+                    this.saves.put(fileName, new SaveMetadata(fileName, timestamp, playerCount, currentPlayer, volcanoCardCount, turnNumber));
+                } else if(op == SaveIndex.OP_REMOVE) {
+                    this.saves.remove(fileName);
+                } else {
+                    throw new IOException("Unknown save index record " + op);
+                }
+                this.journalRecords++;
+            }
+        } catch(IOException | BufferUnderflowException | NegativeArraySizeException e) {
+            // Torn or corrupted tail, the records read so far are kept and the rest is rebuilt by reconcile
+            this.journalDirty = true;
+        }
+
+        if(this.journalRecords > MIN_COMPACT_RECORDS + 2 * this.saves.size()) {
+            this.journalDirty = true;
+        }
+    }
+
+    /**
+     * Rewrites the journal with a single put record per indexed save.
+     *
+     * @throws IOException if the journal cannot be written
+     */
+    private void compactJournal() throws IOException {
+        List<ByteBuffer> records = new ArrayList<ByteBuffer>(this.saves.size());
+        int size = SaveIndex.HEADER_SIZE;
+
+        for(SaveMetadata saveMetadata : this.saves.values()) {
+            ByteBuffer record = SaveIndex.encodeRecord(SaveIndex.OP_PUT, saveMetadata.getFileName(), saveMetadata);
+            records.add(record);
+            size += record.remaining();
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(SaveIndex.MAGIC);
+        buffer.putShort(SaveIndex.VERSION);
+        for(ByteBuffer record : records) {
+            buffer.put(record);
+        }
+        buffer.flip();
+
+        SaveHandler.writeAtomically(this.indexPath, buffer);
+        this.journalRecords = records.size();
+        this.journalDirty = false;
+    }
+
+    /**
+     * Appends a record to the journal. The journal is not forced to disk: it is a cache of the
+     * directory, and reconcile repairs anything lost in a crash.
+     */
+    private void appendRecord(byte op, String fileName, SaveMetadata saveMetadata) {
+        if(this.journal == null) {
+            return;
+        }
+
+        try {
+            ByteBuffer record = SaveIndex.encodeRecord(op, fileName, saveMetadata);
+            while(record.hasRemaining()) {
+                this.journal.write(record);
+            }
+            this.journalRecords++;
+        } catch(IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static ByteBuffer encodeRecord(byte op, String fileName, SaveMetadata saveMetadata) {
+        byte[] name = fileName.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer record = ByteBuffer.allocate(1 + 2 + name.length + (op == SaveIndex.OP_PUT ? 8 + 1 + 1 + 2 + 4 : 0));
+
+        record.put(op);
+        record.putShort((short) name.length);
+        record.put(name);
+        if(op == SaveIndex.OP_PUT) {
+            record.putLong(saveMetadata.getTimestamp());
+            record.put((byte) saveMetadata.getPlayerCount());
+            record.put((byte) saveMetadata.getCurrentPlayer());
+            record.putShort((short) saveMetadata.getVolcanoCardCount());
+            record.putInt(saveMetadata.getTurnNumber());
+        }
+
+        record.flip();
+        return record;
+    }
+    // ===============
+}
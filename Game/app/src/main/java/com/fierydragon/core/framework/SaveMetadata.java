@@ -0,0 +1,86 @@
+package com.fierydragon.core.framework;
+
+import java.util.Map;
+
+/**
+ * Summary of a save file, kept in the SaveIndex so saves can be listed without opening them.
+ */
+public class SaveMetadata {
+    private final String fileName;
+    private final long timestamp;
+    private final int playerCount;
+    private final int currentPlayer;
+    private final int volcanoCardCount;
+    private final int turnNumber;
+
+    /**
+     * Constructs a SaveMetadata object.
+     *
+     * @param fileName the name of the save file in the save directory
+     * @param timestamp the last modified time of the save file, in milliseconds since the epoch
+     * @param playerCount the number of players
+     * @param currentPlayer the ID of the player whose turn it is
+     * @param volcanoCardCount the number of volcano cards
+     * @param turnNumber the turn the game was saved on
+     */
+    public SaveMetadata(String fileName, long timestamp, int playerCount, int currentPlayer, int volcanoCardCount, int turnNumber) {
+        this.fileName = fileName;
+        this.timestamp = timestamp;
+        this.playerCount = playerCount;
+        this.currentPlayer = currentPlayer;
+        this.volcanoCardCount = volcanoCardCount;
+        this.turnNumber = turnNumber;
+    }
+
+    /**
+     * Builds the metadata of a save from its properties. Saves written before the turn number was
+     * tracked report turn 1.
+     *
+     * @param fileName the name of the save file in the save directory
+     * @param timestamp the last modified time of the save file, in milliseconds since the epoch
+     * @param properties the saved properties
+     * @return the metadata of the save
+     */
+    public static SaveMetadata fromProperties(String fileName, long timestamp, Map<String, String> properties) {
+        return new SaveMetadata(
+            fileName,
+            timestamp,
+            SaveMetadata.getInt(properties, "playerCount", 0),
+            SaveMetadata.getInt(properties, "currentPlayer", 0),
+            SaveMetadata.getInt(properties, "volcanoCardCount", 0),
+            SaveMetadata.getInt(properties, "turnNumber", 1)
+        );
+    }
+
+    private static int getInt(Map<String, String> properties, String key, int defaultValue) {
+        try {
+            return Integer.parseInt(properties.get(key));
+        } catch(NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public String getFileName() {
+        return this.fileName;
+    }
+
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    public int getPlayerCount() {
+        return this.playerCount;
+    }
+
+    public int getCurrentPlayer() {
+        return this.currentPlayer;
+    }
+
+    public int getVolcanoCardCount() {
+        return this.volcanoCardCount;
+    }
+
+    public int getTurnNumber() {
+        return this.turnNumber;
+    }
+}
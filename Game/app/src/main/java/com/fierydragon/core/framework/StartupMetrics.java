@@ -0,0 +1,74 @@
+package com.fierydragon.core.framework;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javafx.scene.Scene;
+
+/**
+ * StartupMetrics records how long after the process started each startup milestone was reached,
+ * such as the first frame of the main menu or of the first game board.
+ *
+ * A milestone is reached on the first pulse laying out a scene, the pulse that renders its first frame.
+ */
+public class StartupMetrics {
+
+    /**
+     * The singleton instance of the StartupMetrics.
+     */
+    public static final StartupMetrics INSTANCE = new StartupMetrics();
+
+    private final Instant processStart;
+    private final Map<String, Long> milestones;
+
+    private StartupMetrics() {
+        // Falls back to class loading time where the platform does not report the process start
+        this.processStart = ProcessHandle.current().info().startInstant().orElse(Instant.now());
+        this.milestones = new LinkedHashMap<String, Long>();
+    }
+
+    /**
+     * Records a milestone as reached now.
+     *
+     * @param milestone the name of the milestone
+     * @return the milliseconds since the process started
+     */
+    public synchronized long record(String milestone) {
+        long elapsedMillis = Duration.between(this.processStart, Instant.now()).toMillis();
+        this.milestones.putIfAbsent(milestone, elapsedMillis);
+        return this.milestones.get(milestone);
+    }
+
+    /**
+     * Records a milestone on the next pulse laying out a scene, then runs an action on the FX thread.
+     * Must be called on the FX thread.
+     *
+     * @param milestone the name of the milestone
+     * @param scene the scene to wait for
+     * @param onRecorded the action to run once recorded, or null
+     */
+    public void recordFirstPulse(String milestone, Scene scene, Runnable onRecorded) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+
+                StartupMetrics.this.record(milestone);
+                if(onRecorded != null) {
+                    onRecorded.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns every recorded milestone, in the order they were reached.
+     *
+     * @return the milliseconds since the process started, by milestone
+     */
+    public synchronized Map<String, Long> getMilestones() {
+        return new LinkedHashMap<String, Long>(this.milestones);
+    }
+}
@@ -0,0 +1,53 @@
+package com.fierydragon.core.framework;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fierydragon.core.interfaces.ISaveCodec;
+
+/**
+ * The original human readable save format, one key=value pair per line.
+ *
+ * Still read for saves written before the binary format and used to export readable saves.
+ */
+public class TextSaveCodec implements ISaveCodec {
+
+    @Override
+    public ByteBuffer encode(Map<String, String> properties) {
+        StringBuilder builder = new StringBuilder();
+
+        for(Map.Entry<String, String> entry : properties.entrySet()) {
+            builder.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+
+        return ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public Map<String, String> decode(ByteBuffer buffer) {
+        Map<String, String> properties = new LinkedHashMap<String, String>();
+        String content = StandardCharsets.UTF_8.decode(buffer).toString();
+
+        for(String line : content.split("\n")) {
+            String[] split = line.split("=");
+
+            if(split.length == 2) {
+                properties.put(split[0].trim(), split[1].trim());
+            }
+        }
+
+        return properties;
+    }
+
+    @Override
+    public boolean canDecode(ByteBuffer buffer) {
+        return true;
+    }
+
+    @Override
+    public String getFileExtension() {
+        return ".txt";
+    }
+}
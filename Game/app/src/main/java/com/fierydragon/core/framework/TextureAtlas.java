@@ -0,0 +1,129 @@
+package com.fierydragon.core.framework;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+/**
+ * Texture atlas packing many small images into a single image
+ *
+ * The images are decoded once, each at the size it is displayed at, then packed in shelves (rows of images of
+ * decreasing height), with a transparent gutter between them so smoothing never samples a neighbour.
+ * An ImageView shows one of the images by using the atlas image with the image's viewport, so every
+ * view of every packed image shares one texture.
+ */
+public class TextureAtlas {
+    // Transparent pixels around every image
+    private static final int GUTTER = 2;
+
+    private final WritableImage image;
+    private final Map<String, Rectangle2D> viewports;
+
+    /**
+     * Decodes an image to pack, on the calling thread (which does not need to be the FX thread)
+     *
+     * Decoded outside of the resource loader cache, the packed copy is the only one kept.
+     *
+     * @param resourceLoader Resource loader the image is loaded from
+     * @param resourcePath Resource path of the image
+     * @param size Square size to decode the image to, 0 for its natural size
+     * @return Decoded image
+     */
+    public static Image decodeImage(ResourceLoader resourceLoader, String resourcePath, int size) {
+        Image image = new Image(resourceLoader.getPath() + resourcePath, size, size, size == 0, true);
+        if(image.isError()) {
+            throw new IllegalStateException("Cannot load " + resourcePath, image.getException());
+        }
+        return image;
+    }
+
+    /**
+     * Constructor, packs decoded images
+     *
+     * @param decodedImages Images to pack, by the resource path they were decoded from
+     */
+    public TextureAtlas(Map<String, Image> decodedImages) {
+        List<String> resourcePaths = new ArrayList<String>(decodedImages.keySet());
+        List<Image> images = new ArrayList<Image>(decodedImages.values());
+        long packedArea = 0;
+        int maxWidth = 2;
+
+        for(Image image: images) {
+            packedArea += (long) (image.getWidth() + 2 * TextureAtlas.GUTTER) * (long) (image.getHeight() + 2 * TextureAtlas.GUTTER);
+            maxWidth = Math.max(maxWidth, (int) image.getWidth() + 2 * TextureAtlas.GUTTER);
+        }
+
+        // Power of two width, about square once packed
+        int atlasWidth = Integer.highestOneBit(Math.max(maxWidth, (int) Math.ceil(Math.sqrt(packedArea))) - 1) << 1;
+
+        // Tallest first, so every shelf is about as tall as the images on it
+        List<Integer> packingOrder = new ArrayList<Integer>(images.size());
+        for(int i = 0; i < images.size(); i++) {
+            packingOrder.add(i);
+        }
+        packingOrder.sort((a, b) -> Double.compare(images.get(b).getHeight(), images.get(a).getHeight()));
+
+        // ===============
+        // Shelf packing
+        int[] positions = new int[images.size() * 2];
+        int shelfX = 0;
+        int shelfY = 0;
+        int shelfHeight = 0;
+
+        for(int i: packingOrder) {
+            int width = (int) images.get(i).getWidth() + 2 * TextureAtlas.GUTTER;
+            int height = (int) images.get(i).getHeight() + 2 * TextureAtlas.GUTTER;
+
+            if(shelfX + width > atlasWidth) {
+                shelfX = 0;
+                shelfY += shelfHeight;
+                shelfHeight = 0;
+            }
+
+            positions[i * 2] = shelfX + TextureAtlas.GUTTER;
+            positions[i * 2 + 1] = shelfY + TextureAtlas.GUTTER;
+
+            shelfX += width;
+            shelfHeight = Math.max(shelfHeight, height);
+        }
+        // ===============
+
+        this.image = new WritableImage(atlasWidth, Math.max(1, shelfY + shelfHeight));
+        this.viewports = new HashMap<String, Rectangle2D>();
+
+        PixelWriter pixelWriter = this.image.getPixelWriter();
+        for(int i = 0; i < images.size(); i++) {
+            Image image = images.get(i);
+            int width = (int) image.getWidth();
+            int height = (int) image.getHeight();
+
+            pixelWriter.setPixels(positions[i * 2], positions[i * 2 + 1], width, height, image.getPixelReader(), 0, 0);
+            this.viewports.put(resourcePaths.get(i), new Rectangle2D(positions[i * 2], positions[i * 2 + 1], width, height));
+        }
+    }
+
+    /**
+     * Get the atlas image, shared by every view of a packed image
+     *
+     * @return Atlas image
+     */
+    public Image getImage() {
+        return this.image;
+    }
+
+    /**
+     * Get the region of the atlas holding an image
+     *
+     * @param resourcePath Resource path the image was packed from
+     * @return Viewport into the atlas image, or null if the image was not packed
+     */
+    public Rectangle2D getViewport(String resourcePath) {
+        return this.viewports.get(resourcePath);
+    }
+}
@@ -0,0 +1,44 @@
+package com.fierydragon.core.interfaces;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * Interface for the on-disk formats of save files used by SaveHandler.
+ */
+public interface ISaveCodec {
+
+    /**
+     * Encodes the saved properties of an ISaveable.
+     *
+     * @param properties the properties populated by ISaveable.invokeSave
+     * @return a buffer holding the encoded save, ready to be written
+     * @throws IOException if the properties cannot be represented in this format
+     */
+    public ByteBuffer encode(Map<String, String> properties) throws IOException;
+
+    /**
+     * Decodes a save file back into its properties.
+     *
+     * @param buffer the content of the save file
+     * @return the decoded properties, in the order they were saved
+     * @throws IOException if the buffer is not a valid save in this format
+     */
+    public Map<String, String> decode(ByteBuffer buffer) throws IOException;
+
+    /**
+     * Checks if the buffer starts like a save in this format. Does not move the buffer's position.
+     *
+     * @param buffer the content of the save file
+     * @return true if this codec can decode the buffer
+     */
+    public boolean canDecode(ByteBuffer buffer);
+
+    /**
+     * Gets the file extension of saves in this format.
+     *
+     * @return the file extension, including the dot
+     */
+    public String getFileExtension();
+}
@@ -0,0 +1,42 @@
+package com.fierydragon.core.interfaces;
+
+/**
+ * Interface for reading back what an ISaveWriter wrote, field by field in the same order.
+ */
+public interface ISaveReader {
+
+    /**
+     * Reads a byte field.
+     *
+     * @return the value
+     */
+    public byte readByte();
+
+    /**
+     * Reads a short field.
+     *
+     * @return the value
+     */
+    public short readShort();
+
+    /**
+     * Reads an int field.
+     *
+     * @return the value
+     */
+    public int readInt();
+
+    /**
+     * Reads a long field.
+     *
+     * @return the value
+     */
+    public long readLong();
+
+    /**
+     * Reads a boolean field.
+     *
+     * @return the value
+     */
+    public boolean readBoolean();
+}
@@ -0,0 +1,42 @@
+package com.fierydragon.core.interfaces;
+
+/**
+ * Interface for the streaming save path: typed fields written in a fixed order, with no keys and no boxing.
+ */
+public interface ISaveWriter {
+
+    /**
+     * Writes a byte field.
+     *
+     * @param value the value, cast to a byte
+     */
+    public void writeByte(int value);
+
+    /**
+     * Writes a short field.
+     *
+     * @param value the value, cast to a short
+     */
+    public void writeShort(int value);
+
+    /**
+     * Writes an int field.
+     *
+     * @param value the value
+     */
+    public void writeInt(int value);
+
+    /**
+     * Writes a long field.
+     *
+     * @param value the value
+     */
+    public void writeLong(long value);
+
+    /**
+     * Writes a boolean field.
+     *
+     * @param value the value
+     */
+    public void writeBoolean(boolean value);
+}
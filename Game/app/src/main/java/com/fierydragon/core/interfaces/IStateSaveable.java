@@ -0,0 +1,25 @@
+package com.fierydragon.core.interfaces;
+
+/**
+ * Interface for objects that can also be saved through the streaming path, without building a property map.
+ *
+ * readState restores into an object of the same layout (same number of players and cards) as the one written,
+ * so snapshots can be taken and restored over and over without allocating.
+ */
+public interface IStateSaveable {
+
+    /**
+     * Writes the state of the object.
+     *
+     * @param writer the writer to write the fields to
+     */
+    public void writeState(ISaveWriter writer);
+
+    /**
+     * Restores the state of the object from fields written by writeState.
+     *
+     * @param reader the reader to read the fields from
+     * @throws IllegalArgumentException if the saved state does not fit this object
+     */
+    public void readState(ISaveReader reader);
+}
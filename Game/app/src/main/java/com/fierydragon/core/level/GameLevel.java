@@ -1,5 +1,6 @@
 package com.fierydragon.core.level;
 
+import com.fierydragon.core.framework.ResizeCoalescer;
 import com.fierydragon.core.interfaces.ISaveable;
 import com.fierydragon.core.interfaces.ISceneHolder;
 
@@ -19,23 +20,18 @@ public abstract class GameLevel implements ISceneHolder, ISaveable {
 
     protected Scene scene;
     protected Group levelRoot;
+    protected ResizeCoalescer resizeCoalescer;
 
     /**
      * Constructs a GameLevel object, setting up the scene and level root.
-     * Initializes the scene with a light gray background and adds listeners to handle resizing.
+     * Initializes the scene with a light gray background and re-runs init() at most once per pulse when it is resized.
      */
     public GameLevel() {
         this.levelRoot = new Group();
         this.scene = new Scene(this.levelRoot);
         this.scene.setFill(Color.LIGHTGRAY);
 
-        this.scene.widthProperty().addListener((observable, oldValue, newValue) -> {
-            this.init();
-        });
-
-        this.scene.heightProperty().addListener((observable, oldValue, newValue) -> {
-            this.init();
-        });
+        this.resizeCoalescer = new ResizeCoalescer(this.scene, this::init);
     }
 
     /**
@@ -0,0 +1,67 @@
+package com.fierydragon.benchmark;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javafx.application.Platform;
+
+/**
+ * The FxToolkit class starts the JavaFX toolkit once per benchmark fork and runs work on the FX application thread.
+ */
+final class FxToolkit {
+    private static final AtomicBoolean started = new AtomicBoolean(false);
+
+    private FxToolkit() {
+    }
+
+    /**
+     * Starts the JavaFX toolkit if it is not running yet.
+     */
+    static void start() {
+        if(FxToolkit.started.compareAndSet(false, true)) {
+            CountDownLatch latch = new CountDownLatch(1);
+            Platform.setImplicitExit(false);
+            Platform.startup(latch::countDown);
+            FxToolkit.await(latch);
+        }
+    }
+
+    /**
+     * Runs the given work on the FX application thread and waits for it to finish.
+     *
+     * @param runnable the work to run
+     */
+    static void runAndWait(Runnable runnable) {
+        if(Platform.isFxApplicationThread()) {
+            runnable.run();
+            return;
+        }
+
+        CountDownLatch latch = new CountDownLatch(1);
+        RuntimeException[] failure = new RuntimeException[1];
+
+        Platform.runLater(() -> {
+            try {
+                runnable.run();
+            } catch(RuntimeException e) {
+                failure[0] = e;
+            } finally {
+                latch.countDown();
+            }
+        });
+
+        FxToolkit.await(latch);
+        if(failure[0] != null) {
+            throw failure[0];
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the FX application thread", e);
+        }
+    }
+}
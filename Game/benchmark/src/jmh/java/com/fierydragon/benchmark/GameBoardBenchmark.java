@@ -0,0 +1,209 @@
+package com.fierydragon.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.fierydragon.components.TurnController;
+import com.fierydragon.components.engine.GameSetup;
+import com.fierydragon.components.engine.GameState;
+import com.fierydragon.components.interfaces.IBoardRenderer;
+import com.fierydragon.components.level.BoardGeometry;
+import com.fierydragon.components.level.CanvasBoardRenderer;
+import com.fierydragon.components.level.GameBoard;
+import com.fierydragon.components.level.NodeBoardRenderer;
+import com.fierydragon.core.framework.GameModeBase;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.image.WritableImage;
+import javafx.stage.Stage;
+
+/**
+ * Benchmarks of the rendered GameBoard: construction of a new and of a loaded game, the layout pass and the
+ * card actions including the animations they schedule. Scene graph work runs on the FX application thread,
+ * in batches to keep the cost of the thread hand-off out of the per action figures.
+ *
+ * Every benchmark runs with both board renderers. The number of scene nodes of each board is printed once per
+ * trial, resizeLayout lays the static board out at a new size, and snapshot renders a whole frame of the board.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class GameBoardBenchmark {
+    private static final int ACTIONS_PER_INVOCATION = 64;
+
+    @Param({"8", "21", "64", "256"})
+    public int volcanoCardNum;
+
+    @Param({"nodes", "canvas"})
+    public String renderer;
+
+    private GameSetup gameSetup;
+    private Map<String, String> properties;
+    private GameModeBase gameMode;
+
+    private Stage stage;
+    private GameState gameState;
+    private GameBoard gameBoard;
+    private BoardGeometry resizeGeometry;
+    private int step;
+
+    /**
+     * Game mode that ignores wins and pauses.
+     */
+    private static class BenchmarkGameMode extends GameModeBase {
+        @Override
+        public void handleWin() {
+        }
+
+        @Override
+        public void handlePause() {
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        FxToolkit.start();
+
+        this.gameSetup = GameSetup.basic(RulesEngineBenchmark.PLAYER_COUNT, this.volcanoCardNum);
+        this.gameMode = new BenchmarkGameMode();
+
+        this.properties = new LinkedHashMap<String, String>();
+        this.gameSetup.createGameState(new TurnController(RulesEngineBenchmark.PLAYER_COUNT)).invokeSave(this.properties, "");
+
+        FxToolkit.runAndWait(() -> {
+            this.stage = new Stage();
+            this.stage.setWidth(1280);
+            this.stage.setHeight(720);
+            this.stage.show();
+
+            GameState gameState = this.loadGameState();
+            GameBoard gameBoard = new GameBoard(this.gameMode, gameState);
+            gameBoard.setBoardRenderer(this.createBoardRenderer(gameState));
+            System.out.println("GameBoard scene nodes (" + this.renderer + ", " + this.volcanoCardNum + " volcano cards): " + GameBoardBenchmark.countNodes(gameBoard.getScene().getRoot()));
+        });
+    }
+
+    @Setup(Level.Iteration)
+    public void setupBoard() {
+        FxToolkit.runAndWait(() -> {
+            this.gameState = this.loadGameState();
+            this.gameBoard = new GameBoard(this.gameMode, this.gameState);
+            this.gameBoard.setBoardRenderer(this.createBoardRenderer(this.gameState));
+            this.stage.setScene(this.gameBoard.getScene());
+            this.gameBoard.init();
+            this.step = 0;
+
+            this.resizeGeometry = new BoardGeometry(this.gameState.getTileCount(), this.gameState.getCaveSpacing(), this.gameState.getCaveCount(), this.gameState.getDragonCardCount());
+
+            // Move every player out of its cave through the board so that the scene follows the state
+            for(int i = 0; i < RulesEngineBenchmark.PLAYER_COUNT; i++) {
+                int playerID = this.gameState.getTurnController().getTurnPlayerID();
+                this.gameBoard.handleCardAction(this.gameState.getCurrentTileType(playerID), 1);
+                this.gameBoard.handleCardAction(RulesEngineBenchmark.PASS_CARD_TYPE, 1);
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        FxToolkit.runAndWait(() -> this.stage.close());
+    }
+
+    private IBoardRenderer createBoardRenderer(GameState gameState) {
+        return this.renderer.equals("canvas") ? new CanvasBoardRenderer(gameState) : new NodeBoardRenderer(gameState);
+    }
+
+    private static int countNodes(Node node) {
+        int nodeCount = 1;
+        if(node instanceof Parent) {
+            for(Node child: ((Parent) node).getChildrenUnmodifiable()) {
+                nodeCount += GameBoardBenchmark.countNodes(child);
+            }
+        }
+        return nodeCount;
+    }
+
+    private GameState loadGameState() {
+        int startingPlayer = Integer.parseInt(this.properties.get("currentPlayer")) - 1;
+        TurnController turnController = new TurnController(startingPlayer, RulesEngineBenchmark.PLAYER_COUNT);
+
+        return new GameState(turnController, this.properties);
+    }
+
+    @Benchmark
+    public GameBoard constructNew() {
+        return new GameBoard(this.gameMode, this.gameSetup.createGameState(new TurnController(RulesEngineBenchmark.PLAYER_COUNT)));
+    }
+
+    @Benchmark
+    public GameBoard constructLoaded() {
+        return new GameBoard(this.gameMode, this.loadGameState());
+    }
+
+    @Benchmark
+    public void init() {
+        FxToolkit.runAndWait(() -> this.gameBoard.init());
+    }
+
+    @Benchmark
+    public void resizeLayout() {
+        FxToolkit.runAndWait(() -> {
+            // Alternate between two sizes, so the geometry and the static board are laid out again every time
+            double width = 1280 + (this.step++ & 1);
+            this.resizeGeometry.update(width, 720);
+            this.gameBoard.getBoardRenderer().layout(this.resizeGeometry, width, 720);
+        });
+    }
+
+    @Benchmark
+    public WritableImage snapshot() {
+        WritableImage[] frame = new WritableImage[1];
+        FxToolkit.runAndWait(() -> frame[0] = this.gameBoard.getScene().snapshot(null));
+        return frame[0];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ACTIONS_PER_INVOCATION)
+    public void handleCardAction() {
+        FxToolkit.runAndWait(() -> {
+            for(int i = 0; i < GameBoardBenchmark.ACTIONS_PER_INVOCATION; i++) {
+                int cardStep = this.step++;
+                this.gameBoard.handleCardAction(RulesEngineBenchmark.cycleCardType(this.gameState, cardStep), RulesEngineBenchmark.cycleCardValue(cardStep));
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ACTIONS_PER_INVOCATION)
+    public void handleSwapCardAction() {
+        FxToolkit.runAndWait(() -> {
+            for(int i = 0; i < GameBoardBenchmark.ACTIONS_PER_INVOCATION; i++) {
+                this.gameBoard.handleSwapCardAction();
+            }
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ACTIONS_PER_INVOCATION)
+    public void nextTurn() {
+        FxToolkit.runAndWait(() -> {
+            for(int i = 0; i < GameBoardBenchmark.ACTIONS_PER_INVOCATION; i++) {
+                this.gameBoard.nextTurn();
+            }
+        });
+    }
+}
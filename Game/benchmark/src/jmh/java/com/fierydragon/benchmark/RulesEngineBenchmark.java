@@ -0,0 +1,118 @@
+package com.fierydragon.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fierydragon.components.TurnController;
+import com.fierydragon.components.engine.GameSetup;
+import com.fierydragon.components.engine.GameState;
+import com.fierydragon.components.engine.MoveResult;
+import com.fierydragon.components.engine.RulesEngine;
+import com.fierydragon.components.enums.CardType;
+
+/**
+ * Benchmarks of the headless rules behind GameBoard.handleCardAction, GameBoard.handleSwapCardAction
+ * and the turn order, on boards of increasing size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class RulesEngineBenchmark {
+    static final int PLAYER_COUNT = 4;
+
+    // Never matches a tile, so playing it with a positive value always passes the turn
+    static final CardType PASS_CARD_TYPE = CardType.PIRATE_DRAGON;
+
+    @Param({"8", "21", "256", "4096"})
+    public int volcanoCardNum;
+
+    private GameState gameState;
+    private RulesEngine rulesEngine;
+    private TurnController turnController;
+    private int step;
+
+    @Setup
+    public void setup() {
+        this.turnController = new TurnController(RulesEngineBenchmark.PLAYER_COUNT);
+        this.gameState = GameSetup.basic(RulesEngineBenchmark.PLAYER_COUNT, this.volcanoCardNum).createGameState(this.turnController);
+        this.rulesEngine = new RulesEngine(this.gameState);
+        this.step = 0;
+
+        RulesEngineBenchmark.leaveCaves(this.rulesEngine);
+    }
+
+    /**
+     * Moves every player out of its cave so that swaps and collisions are possible.
+     *
+     * @param rulesEngine the rules engine of a new game
+     */
+    static void leaveCaves(RulesEngine rulesEngine) {
+        GameState gameState = rulesEngine.getGameState();
+
+        for(int i = 0; i < gameState.getPlayerCount(); i++) {
+            int playerID = gameState.getTurnController().getTurnPlayerID();
+            rulesEngine.handleCardAction(gameState.getCurrentTileType(playerID), 1);
+            rulesEngine.handleCardAction(RulesEngineBenchmark.PASS_CARD_TYPE, 1);
+        }
+    }
+
+    /**
+     * Gets the type of the next card of a fixed three card cycle: one tile forward, one tile back, then a card
+     * that does not match and passes the turn. The board never reaches a win, so every invocation does the same work.
+     *
+     * @param gameState the game state the card is played on
+     * @param step the index of the card in the cycle
+     * @return the card type
+     */
+    static CardType cycleCardType(GameState gameState, int step) {
+        switch(step % 3) {
+            case 0:
+                return gameState.getCurrentTileType(gameState.getTurnController().getTurnPlayerID());
+            case 1:
+                return CardType.PIRATE_DRAGON;
+            default:
+                return RulesEngineBenchmark.PASS_CARD_TYPE;
+        }
+    }
+
+    /**
+     * Gets the value of the next card of the cycle described in cycleCardType.
+     *
+     * @param step the index of the card in the cycle
+     * @return the card value
+     */
+    static int cycleCardValue(int step) {
+        return step % 3 == 1 ? -1 : 1;
+    }
+
+    @Benchmark
+    public MoveResult handleCardAction() {
+        int cardStep = this.step++;
+        return this.rulesEngine.handleCardAction(RulesEngineBenchmark.cycleCardType(this.gameState, cardStep), RulesEngineBenchmark.cycleCardValue(cardStep));
+    }
+
+    @Benchmark
+    public MoveResult handleSwapCardAction() {
+        return this.rulesEngine.handleSwapCardAction();
+    }
+
+    @Benchmark
+    public int nextTurn() {
+        this.rulesEngine.nextTurn();
+        return this.turnController.getTurnPlayerID();
+    }
+
+    @Benchmark
+    public int turnControllerNextTurn() {
+        this.turnController.nextTurn();
+        return this.turnController.getTurnPlayerID();
+    }
+}
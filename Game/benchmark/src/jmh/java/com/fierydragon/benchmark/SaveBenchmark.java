@@ -0,0 +1,95 @@
+package com.fierydragon.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fierydragon.components.TurnController;
+import com.fierydragon.components.engine.BinarySaveCodec;
+import com.fierydragon.components.engine.GameSetup;
+import com.fierydragon.components.engine.GameState;
+import com.fierydragon.core.framework.ByteBufferSaveReader;
+import com.fierydragon.core.framework.ByteBufferSaveWriter;
+import com.fierydragon.core.framework.SaveHandler;
+import com.fierydragon.core.framework.TextSaveCodec;
+
+/**
+ * Benchmarks of ISaveable.invokeSave, of the streaming IStateSaveable snapshot, and of writing and reading save files
+ * in each format, on boards of increasing size.
+ *
+ * The save benchmark waits for the background write, including the flush and the atomic rename.
+ * The benchmark fork points user.home at the build directory, so the save files never reach the player's saves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class SaveBenchmark {
+    @Param({"8", "21", "256", "4096"})
+    public int volcanoCardNum;
+
+    @Param({"text", "binary"})
+    public String saveFormat;
+
+    private GameState gameState;
+    private String savePath;
+
+    private ByteBufferSaveWriter stateWriter;
+    private ByteBufferSaveReader stateReader;
+
+    @Setup
+    public void setup() {
+        SaveHandler.INSTANCE.setSaveCodec(this.saveFormat.equals("binary") ? new BinarySaveCodec() : new TextSaveCodec());
+        this.gameState = GameSetup.basic(RulesEngineBenchmark.PLAYER_COUNT, this.volcanoCardNum).createGameState(new TurnController(RulesEngineBenchmark.PLAYER_COUNT));
+
+        this.savePath = SaveHandler.INSTANCE.save(this.gameState).join().toString();
+
+        this.stateWriter = new ByteBufferSaveWriter(1024);
+        this.stateReader = new ByteBufferSaveReader(null);
+    }
+
+    @Benchmark
+    public Map<String, String> invokeSave() {
+        Map<String, String> properties = new LinkedHashMap<String, String>();
+        this.gameState.invokeSave(properties, "");
+        return properties;
+    }
+
+    @Benchmark
+    public int writeState() {
+        this.stateWriter.clear();
+        this.gameState.writeState(this.stateWriter);
+        return this.stateWriter.size();
+    }
+
+    @Benchmark
+    public GameState writeAndReadState() {
+        this.stateWriter.clear();
+        this.gameState.writeState(this.stateWriter);
+
+        ByteBuffer snapshot = this.stateWriter.getBuffer();
+        this.stateReader.reset(snapshot);
+        this.gameState.readState(this.stateReader);
+        return this.gameState;
+    }
+
+    @Benchmark
+    public Path save() {
+        return SaveHandler.INSTANCE.save(this.gameState).join();
+    }
+
+    @Benchmark
+    public Map<String, String> load() {
+        return SaveHandler.INSTANCE.load(this.savePath);
+    }
+}